@@ -0,0 +1,48 @@
+package org.example.studylog.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.studylog.dto.notification.BroadcastDTO;
+import org.example.studylog.service.BroadcastService;
+import org.example.studylog.util.ResponseUtil;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+// 관리자 전용 (SecurityConfig에서 /admin/** 은 ROLE_ADMIN만 허용)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/broadcasts")
+public class BroadcastController {
+
+    private final BroadcastService broadcastService;
+
+    @Operation(summary = "전체 공지 전송", description = "접속 중인 모든 사용자에게 SSE로 공지를 보냅니다. " +
+            "전송은 비동기로 진행되며, 응답의 broadcastId로 전송 결과를 조회할 수 있습니다.")
+    @ApiResponse(responseCode = "202", description = "공지 전송 요청 완료")
+    @PostMapping
+    public ResponseEntity<?> broadcast(@RequestBody @Valid BroadcastDTO.RequestDTO request) {
+        String broadcastId = broadcastService.broadcast(request);
+        return ResponseUtil.buildResponse(202, "공지 전송 요청 완료", Map.of("broadcastId", broadcastId));
+    }
+
+    @Operation(summary = "공지 전송 결과 조회", description = "요청을 받은 서버의 대상 연결 수, 전송 수, 실패(버려진) 수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "공지 전송 결과 조회 완료",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BroadcastDTO.ResponseDTO.class)))
+    @GetMapping("/{broadcastId}")
+    public ResponseEntity<?> getStats(@PathVariable String broadcastId) {
+        return ResponseUtil.buildResponse(200, "공지 전송 결과 조회 완료", broadcastService.getStats(broadcastId));
+    }
+}
@@ -10,9 +10,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.studylog.dto.ProfileResponseDTO;
 import org.example.studylog.dto.friend.FriendNameDTO;
+import org.example.studylog.dto.friend.FriendPageResponseDTO;
 import org.example.studylog.dto.friend.FriendRequestDTO;
 import org.example.studylog.dto.friend.FriendResponseDTO;
+import org.example.studylog.dto.friend.FriendSearchResponseDTO;
+import org.example.studylog.dto.friend.FriendSuggestionResponseDTO;
 import org.example.studylog.service.FriendService;
+import org.example.studylog.service.FriendSuggestionService;
 import org.example.studylog.util.ResponseUtil;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -28,6 +32,7 @@ import java.util.List;
 public class FriendController {
 
     private final FriendService friendService;
+    private final FriendSuggestionService friendSuggestionService;
 
     @Operation(summary = "code로 친구 조회", description = "친구 추가 시, code로 친구 조회하는 API")
     @ApiResponse(responseCode = "200", description = "사용자 이름 조회 완료",
@@ -44,36 +49,63 @@ public class FriendController {
         return ResponseUtil.buildResponse(200, "사용자 이름 조회 완료", dto);
     }
 
-    @Operation(summary = "친구 목록 조회", description = "로그인한 사용자의 친구 목록 조회 API")
+    @Operation(summary = "친구 목록 조회", description = "로그인한 사용자의 친구 목록 조회 API. " +
+            "sort는 id(기본) 또는 nickname, 다음 페이지는 응답의 nextId(닉네임 순이면 nextNickname도)를 " +
+            "lastId(lastNickname)로 전달")
     @ApiResponse(responseCode = "200", description = "친구 목록 조회 완료",
             content = @Content(
                     mediaType = "application/json",
-                    array = @ArraySchema(schema = @Schema(implementation = FriendResponseDTO.class))))
+                    schema = @Schema(implementation = FriendPageResponseDTO.class)))
     @GetMapping
-    public ResponseEntity<?> getFriendList(){
+    public ResponseEntity<?> getFriendList(@RequestParam(defaultValue = "id") String sort,
+                                           @RequestParam(required = false) String lastNickname,
+                                           @RequestParam(required = false) Long lastId,
+                                           @RequestParam(defaultValue = "20") int size){
         // 로그인한 사용자 oauthId 가져오기
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String oauthId = auth.getName();
 
-        List<FriendResponseDTO> friends = friendService.getFriendList(oauthId);
+        FriendPageResponseDTO friends = friendService.getFriendList(oauthId, sort, lastNickname, lastId, size);
         return ResponseUtil.buildResponse(200, "친구 목록 조회 완료", friends);
     }
 
-    @Operation(summary = "친구 검색", description = "친구 목록에서 이름으로 친구 조회 API")
+    @Operation(summary = "친구 검색", description = "친구 목록에서 이름으로 친구 조회 API. " +
+            "검색어로 시작하는 닉네임이 먼저 오며, 다음 페이지는 응답의 nextPrefixMatch, nextNickname, nextId를 " +
+            "lastPrefixMatch, lastNickname, lastId로 전달")
     @ApiResponse(responseCode = "200", description = "{query}에 대한 친구 검색 완료",
             content = @Content(
                     mediaType = "application/json",
-                    array = @ArraySchema(schema = @Schema(implementation = FriendResponseDTO.class))))
+                    schema = @Schema(implementation = FriendSearchResponseDTO.class)))
     @GetMapping("/search")
-    public ResponseEntity<?> getFriendByQuery(@RequestParam String query){
+    public ResponseEntity<?> getFriendByQuery(@RequestParam String query,
+                                              @RequestParam(required = false) Boolean lastPrefixMatch,
+                                              @RequestParam(required = false) String lastNickname,
+                                              @RequestParam(required = false) Long lastId,
+                                              @RequestParam(defaultValue = "20") int size){
         // 로그인한 사용자 oauthId 가져오기
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String oauthId = auth.getName();
 
-        List<FriendResponseDTO> friends = friendService.getFriendByQuery(oauthId, query);
+        FriendSearchResponseDTO friends = friendService.getFriendByQuery(
+                oauthId, query, lastPrefixMatch, lastNickname, lastId, size);
         return ResponseUtil.buildResponse(200, String.format("\'%s\'에 대한 친구 검색 완료", query), friends);
     }
 
+    @Operation(summary = "알 수도 있는 친구 조회", description = "친구의 친구 중 함께 아는 친구가 많은 순으로 추천하는 API")
+    @ApiResponse(responseCode = "200", description = "친구 추천 조회 완료",
+            content = @Content(
+                    mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = FriendSuggestionResponseDTO.class))))
+    @GetMapping("/suggestions")
+    public ResponseEntity<?> getFriendSuggestions(@RequestParam(defaultValue = "10") int size){
+        // 로그인한 사용자 oauthId 가져오기
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String oauthId = auth.getName();
+
+        List<FriendSuggestionResponseDTO> suggestions = friendSuggestionService.getSuggestions(oauthId, size);
+        return ResponseUtil.buildResponse(200, "친구 추천 조회 완료", suggestions);
+    }
+
     @Operation(summary = "code로 친구 추가", description = "code로 친구 추가 API")
     @ApiResponse(responseCode = "201", description = "친구 추가 완료",
             content = @Content(
@@ -10,16 +10,23 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.studylog.dto.oauth.CustomOAuth2User;
+import org.example.studylog.dto.MainPageResponseDTO;
 import org.example.studylog.entity.user.User;
+import org.example.studylog.repository.ProfileVersionRepository;
 import org.example.studylog.repository.UserRepository;
 import org.example.studylog.service.MainService;
 import org.example.studylog.util.ResponseUtil;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,6 +36,7 @@ public class MainController {
 
     private final MainService mainService;
     private final UserRepository userRepository;
+    private final ProfileVersionRepository profileVersionRepository;
 
     @Operation(
             summary = "메인 페이지 조회",
@@ -46,6 +54,7 @@ public class MainController {
                                             + "\"message\": \"메인 페이지 조회에 성공하였습니다.\","
                                             + "\"data\": {"
                                             + "\"following\": [],"
+                                            + "\"followingCount\": 0,"
                                             + "\"profile\": {"
                                             + "\"userId\": 1,"
                                             + "\"coverImage\": null,"
@@ -119,11 +128,12 @@ public class MainController {
     @GetMapping("/main")
     public ResponseEntity<?> getMainPage(
             @Parameter(hidden = true) @AuthenticationPrincipal CustomOAuth2User currentUser,
-            @Parameter(description = "사용자 공유 코드 (선택적)", example = "ABC123") @RequestParam(required = false) String code) {
+            @Parameter(description = "사용자 공유 코드 (선택적)", example = "ABC123") @RequestParam(required = false) String code,
+            @Parameter(hidden = true) WebRequest webRequest) {
 
         // code 파라미터가 있으면 코드로 조회, 없으면 기존 로직
         if (code != null && !code.trim().isEmpty()) {
-            return getMainPageByCode(code, currentUser);  // private 메서드 호출
+            return getMainPageByCode(code, currentUser, webRequest);  // private 메서드 호출
         }
 
         // 기존 로직 (인증된 사용자)
@@ -148,24 +158,48 @@ public class MainController {
     }
 
     // 동일 엔드포인트에서 쿼리 지원을 위해 private 메서드로 변경
-    private ResponseEntity<?> getMainPageByCode(String code, CustomOAuth2User currentUser) {
+    private ResponseEntity<?> getMainPageByCode(String code, CustomOAuth2User currentUser, WebRequest webRequest) {
         try {
             log.info("코드로 메인 페이지 조회 요청: code={}", code);
 
+            String viewer = currentUser != null ? currentUser.getName() : null;
+
+            // 버전 스탬프가 그대로면 DB 조회 없이 304 응답
+            Optional<ProfileVersionRepository.Stamp> known = profileVersionRepository.findByCode(code);
+            if (known.isPresent()) {
+                String eTag = profileVersionRepository.toETag(known.get(), viewer);
+                if (webRequest.checkNotModified(eTag, known.get().lastModified().toEpochMilli())) {
+                    log.debug("코드로 메인 페이지 조회 - 변경 없음: code={}", code);
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(eTag)
+                            .cacheControl(CacheControl.noCache().cachePrivate())
+                            .build();
+                }
+            }
+
             User targetUser = userRepository.findByCode(code)
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자 코드입니다."));
 
+            // 데이터를 읽기 전에 스탬프를 잡아, 조회 도중 변경이 생기면 다음 요청에서 ETag가 달라지도록 함
+            ProfileVersionRepository.Stamp stamp = profileVersionRepository.register(code, targetUser.getId());
+
             // 현재 사용자가 있으면 팔로우 여부 확인
             User currentUserEntity = null;
             if (currentUser != null) {
                 currentUserEntity = userRepository.findByOauthId(currentUser.getName());
             }
 
-            Object mainPageData = mainService.getMainPageDataWithFollowStatus(targetUser, currentUserEntity);
+            MainPageResponseDTO mainPageData = mainService.getMainPageDataWithFollowStatus(targetUser, currentUserEntity);
 
             log.info("코드로 메인 페이지 조회 성공: code={}, 사용자={}", code, targetUser.getOauthId());
 
-            return ResponseUtil.buildResponse(200, "메인 페이지 조회에 성공하였습니다.", mainPageData);
+            // 일부 섹션이 기본값으로 채워진 응답에 ETag를 주면 이후 요청이 304로 고정되므로 검증자 없이 응답
+            if (Boolean.TRUE.equals(mainPageData.getPartial())) {
+                return ResponseUtil.buildResponse(200, "메인 페이지 조회에 성공하였습니다.", mainPageData);
+            }
+
+            return ResponseUtil.buildResponse(200, "메인 페이지 조회에 성공하였습니다.", mainPageData,
+                    profileVersionRepository.toETag(stamp, viewer), stamp.lastModified());
 
         } catch (IllegalArgumentException e) {
             log.warn("코드로 메인 페이지 조회 실패 - 잘못된 요청: {}", e.getMessage());
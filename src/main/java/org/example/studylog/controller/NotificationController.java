@@ -2,25 +2,29 @@ package org.example.studylog.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.studylog.dto.ProfileResponseDTO;
-import org.example.studylog.dto.notification.NotificationListResponseDTO;
+import org.example.studylog.dto.notification.NotificationPageResponseDTO;
+import org.example.studylog.dto.notification.NotificationUnreadCountResponseDTO;
 import org.example.studylog.service.NotificationService;
 import org.example.studylog.util.ResponseUtil;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,35 +32,72 @@ public class NotificationController {
 
     private final NotificationService notificationService;
 
-    @Operation(summary = "SSE 구독")
+    @Operation(summary = "SSE 구독", description = "이벤트 id는 알림 id. 재연결 시 놓친 알림을 재전송하며, " +
+            "이미 받은 알림이 다시 올 수 있으므로 클라이언트는 이벤트 id로 중복을 제거해야 함")
     @ApiResponse(content = @Content(schema = @Schema(implementation = SseEmitter.class)))
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe() {
+    public SseEmitter subscribe(
+            @Parameter(description = "재연결 시 마지막으로 받은 이벤트 id (브라우저가 자동으로 보냄)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         // 로그인한 사용자 oauthId 가져오기
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String oauthId = auth.getName();
 
-        return notificationService.createEmitter(oauthId);
+        return notificationService.createEmitter(oauthId, lastEventId);
     }
 
-    @Operation(summary = "알림 목록 조회")
+    @Operation(summary = "알림 목록 조회", description = "최신순 알림 목록 조회 API. " +
+            "다음 페이지는 응답의 nextCreatedAt, nextId를 lastCreatedAt, lastId로 전달")
     @ApiResponse(responseCode = "200", description = "알림 목록 조회 완료",
             content = @Content(
                     mediaType = "application/json",
-                    array = @ArraySchema(schema = @Schema(implementation = NotificationListResponseDTO.class))))
+                    schema = @Schema(implementation = NotificationPageResponseDTO.class)))
     @GetMapping("/notifications")
     public ResponseEntity<?> getNotificationList(
             @Parameter(
-                    description = "true면 읽음 처리, false면 기본 조회",
+                    description = "true면 안 읽은 알림 모두 읽음 처리, false면 기본 조회",
                     example = "true"
             )
-            @RequestParam boolean isRead) {
+            @RequestParam boolean isRead,
+            @Parameter(description = "이전 페이지의 nextCreatedAt", example = "2025-07-01T12:30:00.123456")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+            @Parameter(description = "이전 페이지의 nextId")
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(defaultValue = "30") int size) {
         // 로그인한 사용자 oauthId 가져오기
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String oauthId = auth.getName();
 
-        List<NotificationListResponseDTO> list = notificationService.getNotificationList(oauthId, isRead);
-        return ResponseUtil.buildResponse(200, "알림 목록 조회 완료", list);
+        NotificationPageResponseDTO page =
+                notificationService.getNotificationList(oauthId, isRead, lastCreatedAt, lastId, size);
+        return ResponseUtil.buildResponse(200, "알림 목록 조회 완료", page);
+    }
+
+    @Operation(summary = "알림 모두 읽음 처리")
+    @ApiResponse(responseCode = "200", description = "알림 읽음 처리 완료")
+    @PatchMapping("/notifications/read")
+    public ResponseEntity<?> markAllRead() {
+        // 로그인한 사용자 oauthId 가져오기
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String oauthId = auth.getName();
+
+        int updated = notificationService.markAllRead(oauthId);
+        return ResponseUtil.buildResponse(200, "알림 읽음 처리 완료", Map.of("updatedCount", updated));
+    }
+
+    @Operation(summary = "안 읽은 알림 수 조회")
+    @ApiResponse(responseCode = "200", description = "안 읽은 알림 수 조회 완료",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = NotificationUnreadCountResponseDTO.class)))
+    @GetMapping("/notifications/unread-count")
+    public ResponseEntity<?> getUnreadCount() {
+        // 로그인한 사용자 oauthId 가져오기
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String oauthId = auth.getName();
+
+        int count = notificationService.getUnreadCount(oauthId);
+        return ResponseUtil.buildResponse(200, "안 읽은 알림 수 조회 완료", new NotificationUnreadCountResponseDTO(count));
     }
 
 }
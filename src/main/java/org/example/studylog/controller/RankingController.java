@@ -7,8 +7,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.dto.GlobalRankingDTO;
 import org.example.studylog.dto.RankingResponseDTO;
 import org.example.studylog.dto.oauth.CustomOAuth2User;
+import org.example.studylog.service.GlobalRankingService;
 import org.example.studylog.service.RankingService;
 import org.example.studylog.util.ResponseUtil;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +27,7 @@ import java.util.List;
 public class RankingController {
 
     private final RankingService rankingService;
+    private final GlobalRankingService globalRankingService;
 
     @Operation(summary = "랭킹 조회", description = "현재 월의 기록순 랭킹을 조회합니다.")
     @ApiResponses(value = {
@@ -42,4 +45,36 @@ public class RankingController {
         return ResponseUtil.buildResponse(200, "랭킹 목록 조회 완료", data);
     }
 
+    @Operation(summary = "전체 랭킹 조회", description = "이번 달 전체 사용자의 기록순 랭킹을 페이지 단위로 조회합니다. " +
+            "다음 페이지는 응답의 nextCount, nextId를 lastCount, lastId로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "전체 랭킹 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = GlobalRankingDTO.PageResponseDTO.class)))
+    })
+    @GetMapping("/rankings/global")
+    public ResponseEntity<?> getGlobalRanking(@AuthenticationPrincipal CustomOAuth2User currentUser,
+                                              @RequestParam(required = false) Integer lastCount,
+                                              @RequestParam(required = false) Long lastId,
+                                              @RequestParam(defaultValue = "20") int size) {
+        log.info("전체 랭킹 조회 요청: 사용자={}, lastCount={}, lastId={}", currentUser.getName(), lastCount, lastId);
+        GlobalRankingDTO.PageResponseDTO data =
+                globalRankingService.getPage(currentUser.getName(), lastCount, lastId, size);
+        return ResponseUtil.buildResponse(200, "전체 랭킹 조회 완료", data);
+    }
+
+    @Operation(summary = "내 전체 순위 조회", description = "이번 달 전체 사용자 중 내 순위와 상위 퍼센트를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내 순위 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = GlobalRankingDTO.MyRankResponseDTO.class)))
+    })
+    @GetMapping("/rankings/global/me")
+    public ResponseEntity<?> getMyGlobalRank(@AuthenticationPrincipal CustomOAuth2User currentUser) {
+        log.info("내 전체 순위 조회 요청: 사용자={}", currentUser.getName());
+        GlobalRankingDTO.MyRankResponseDTO data = globalRankingService.getMyRank(currentUser.getName());
+        return ResponseUtil.buildResponse(200, "내 전체 순위 조회 완료", data);
+    }
 }
@@ -10,17 +10,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.dto.YearlyStreakResponseDTO;
 import org.example.studylog.dto.oauth.CustomOAuth2User;
 import org.example.studylog.entity.user.User;
 import org.example.studylog.repository.UserRepository;
 import org.example.studylog.service.StreakService;
 import org.example.studylog.util.ResponseUtil;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 
@@ -143,6 +146,80 @@ public class StreakController {
         }
     }
 
+    @Operation(
+            summary = "연간 스트릭 조회",
+            description = "특정 연도의 1월 1일부터 12월 31일까지 일별 학습 기록 개수를 배열로 조회합니다. "
+                    + "ETag를 제공하며, If-None-Match가 일치하면 304를 반환합니다. 인증된 사용자 또는 공유 코드로 조회 가능합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "연간 스트릭 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = "{"
+                                            + "\"status\": 200,"
+                                            + "\"message\": \"연간 스트릭 조회에 성공하였습니다.\","
+                                            + "\"data\": {"
+                                            + "\"year\": 2025,"
+                                            + "\"startDate\": \"2025-01-01\","
+                                            + "\"recordCountPerDay\": [0, 2, 1, 0, 3],"
+                                            + "\"totalCount\": 6,"
+                                            + "\"activeDays\": 3"
+                                            + "}"
+                                            + "}"
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "304", description = "변경 사항 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (유효하지 않은 년도)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (접근 권한 없음)")
+    })
+    @GetMapping("/streak/yearly")
+    public ResponseEntity<?> getYearlyStreak(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomOAuth2User currentUser,
+            @Parameter(hidden = true) WebRequest webRequest,
+            @Parameter(description = "사용자 공유 코드 (선택적)", example = "ABC123") @RequestParam(required = false) String code,
+            @Parameter(description = "조회할 년도", required = true, example = "2025") @RequestParam("year") String year) {
+        try {
+            log.info("연간 스트릭 조회 요청: 사용자={}, code={}, year={}",
+                    currentUser != null ? currentUser.getName() : null, code, year);
+
+            User user;
+            if (code != null && !code.trim().isEmpty()) {
+                user = userRepository.findByCode(code)
+                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자 코드입니다."));
+            } else {
+                user = userRepository.findByOauthId(currentUser.getName());
+                if (user == null) {
+                    return ResponseUtil.buildResponse(401, "접근 권한이 없습니다.", false);
+                }
+            }
+
+            validateYear(year);
+            YearlyStreakResponseDTO yearlyStreakData = streakService.getYearlyStreakData(user, Integer.parseInt(year));
+
+            // 변경 사항이 없으면 본문 없이 304 응답
+            String eTag = yearlyStreakData.toETag();
+            if (webRequest.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+
+            log.info("연간 스트릭 조회 성공: 사용자={}, year={}", user.getOauthId(), year);
+
+            return ResponseUtil.buildResponse(200, "연간 스트릭 조회에 성공하였습니다.", yearlyStreakData, eTag);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("연간 스트릭 조회 실패 - 잘못된 요청: {}", e.getMessage());
+            return ResponseUtil.buildResponse(400, "잘못된 접근입니다", Map.of("example", e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("연간 스트릭 조회 중 오류 발생", e);
+            return ResponseUtil.buildResponse(500, "내부 서버 오류입니다. 다시 접속해주세요.", null);
+        }
+    }
+
     // private 메서드 추가
     private ResponseEntity<?> getMonthlyStreakByCode(String code, String year, String month) {
         try {
@@ -171,14 +248,7 @@ public class StreakController {
 
     private void validateYearMonth(String year, String month) {
         // 년도 검증
-        try {
-            int yearInt = Integer.parseInt(year);
-            if (yearInt < 2020 || yearInt > 2030) {
-                throw new IllegalArgumentException("올바르지 않은 년도입니다");
-            }
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("올바르지 않은 년도 형식입니다");
-        }
+        validateYear(year);
 
         // 월 검증
         try {
@@ -190,4 +260,15 @@ public class StreakController {
             throw new IllegalArgumentException("올바르지 않은 월 형식입니다");
         }
     }
+
+    private void validateYear(String year) {
+        try {
+            int yearInt = Integer.parseInt(year);
+            if (yearInt < 2020 || yearInt > 2030) {
+                throw new IllegalArgumentException("올바르지 않은 년도입니다");
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("올바르지 않은 년도 형식입니다");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package org.example.studylog.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+public class GlobalRankingDTO {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class EntryDTO {
+        private int rank;
+        private Long id;
+        private String nickname;
+        private String profileImage;
+        private String code;
+        private int recordCount;
+        private boolean isMe;
+    }
+
+    // 다음 페이지는 nextCount, nextId를 lastCount, lastId로 넘겨 조회
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class PageResponseDTO {
+        private List<EntryDTO> rankings;
+        private boolean hasMore;
+        private Integer nextCount;
+        private Long nextId;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class MyRankResponseDTO {
+        private int rank;
+        private int recordCount;
+        private int totalUsers;
+        // 상위 몇 %인지 (소수점 첫째 자리, 이번 달 기록이 없으면 100)
+        private double topPercent;
+    }
+}
@@ -10,16 +10,19 @@ import java.util.List;
 import java.util.Map;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class MainPageResponseDTO {
 
-    private List<FriendResponseDTO> following;
+    private List<FriendResponseDTO> following;  // 친구 목록 첫 페이지 (나머지는 /friends로 조회)
+    private Integer followingCount;
     private ProfileDTO profile;
     private StreakDTO streak;
     private List<CategoryCountDTO> categories;
     private Boolean isFollowing;
+    private Boolean partial;                // 일부 섹션이 시간 초과/오류로 기본값으로 채워졌는지 여부
+    private List<String> degradedSections;  // 기본값으로 채워진 섹션 이름 목록
 
     @Getter
     @Builder
@@ -0,0 +1,33 @@
+package org.example.studylog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class YearlyStreakResponseDTO {
+    private Integer year;
+    private String startDate;           // recordCountPerDay[0]에 해당하는 날짜 (1월 1일)
+    private short[] recordCountPerDay;  // 1월 1일부터 하루씩 기록 수
+    private Integer totalCount;
+    private Integer activeDays;
+
+    // 응답 내용으로 만든 strong ETag (내용이 같으면 항상 같은 값)
+    public String toETag() {
+        ByteBuffer buffer = ByteBuffer.allocate(4 + recordCountPerDay.length * 2);
+        buffer.putInt(year);
+        for (short count : recordCountPerDay) {
+            buffer.putShort(count);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array());
+        return "\"" + year + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.studylog.dto.friend;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 다음 페이지는 nextId(닉네임 순이면 nextNickname도)를 lastId, lastNickname으로 넘겨 조회
+@Builder
+@AllArgsConstructor
+@Getter
+public class FriendPageResponseDTO {
+    private List<FriendResponseDTO> friends;
+    private Integer totalCount;
+    private boolean hasMore;
+    private String nextNickname;
+    private Long nextId;
+}
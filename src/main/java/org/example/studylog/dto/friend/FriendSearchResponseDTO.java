@@ -0,0 +1,19 @@
+package org.example.studylog.dto.friend;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 다음 페이지는 nextPrefixMatch, nextNickname, nextId를 lastPrefixMatch, lastNickname, lastId로 넘겨 조회
+@Builder
+@AllArgsConstructor
+@Getter
+public class FriendSearchResponseDTO {
+    private List<FriendResponseDTO> friends;
+    private boolean hasMore;
+    private Boolean nextPrefixMatch;
+    private String nextNickname;
+    private Long nextId;
+}
@@ -0,0 +1,16 @@
+package org.example.studylog.dto.friend;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@AllArgsConstructor
+@Getter
+public class FriendSuggestionResponseDTO {
+    private Long id;
+    private String nickname;
+    private String profileImage;
+    private String code;
+    private int mutualCount;
+}
@@ -0,0 +1,46 @@
+package org.example.studylog.dto.notification;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+public class BroadcastDTO {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RequestDTO {
+        @Schema(description = "SSE 이벤트 이름", example = "announcement")
+        @Pattern(regexp = "[A-Za-z0-9_-]{1,50}", message = "이벤트 이름은 영문, 숫자, -, _ 50자 이내입니다.")
+        private String event = "announcement";
+
+        @Schema(description = "공지 내용", example = "오늘 밤 2시부터 30분간 점검이 진행됩니다.")
+        @NotBlank(message = "공지 내용은 필수입니다.")
+        @Size(max = 2000, message = "공지 내용은 2000자 이내입니다.")
+        private String content;
+    }
+
+    // 이 서버 기준 전송 결과 (다른 서버의 연결은 각 서버에서 따로 집계)
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class ResponseDTO {
+        private String broadcastId;
+        private int targeted;
+        private int sent;
+        private int dropped;
+    }
+
+    // 클라이언트로 보내는 공지 데이터
+    @Getter
+    @AllArgsConstructor
+    public static class MessageDTO {
+        private String content;
+        private LocalDateTime createdAt;
+    }
+}
@@ -10,6 +10,7 @@ import org.example.studylog.util.TimeUtil;
 @AllArgsConstructor
 @Getter
 public class NotificationListResponseDTO {
+    private Long id;
     private String type;
     private String content;
     private String timeAgo;
@@ -17,10 +18,18 @@ public class NotificationListResponseDTO {
 
     public static NotificationListResponseDTO from(Notification notification) {
         return NotificationListResponseDTO.builder()
+                .id(notification.getId())
                 .type(notification.getType().getLabel())
                 .content(notification.getContent())
                 .timeAgo(TimeUtil.formatTimeAgo(notification.getCreatedAt()))
                 .isRead(notification.isRead())
                 .build();
     }
+
+    // 모두 읽음 처리한 요청의 응답 (이번에 읽음 처리된 알림도 읽음으로 표시)
+    public static NotificationListResponseDTO from(Notification notification, boolean markedRead) {
+        NotificationListResponseDTO dto = from(notification);
+        dto.isRead = dto.isRead || markedRead;
+        return dto;
+    }
 }
@@ -0,0 +1,19 @@
+package org.example.studylog.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 다음 페이지는 nextCreatedAt, nextId를 lastCreatedAt, lastId로 넘겨 조회
+@Builder
+@AllArgsConstructor
+@Getter
+public class NotificationPageResponseDTO {
+    private List<NotificationListResponseDTO> notifications;
+    private boolean hasMore;
+    private LocalDateTime nextCreatedAt;
+    private Long nextId;
+}
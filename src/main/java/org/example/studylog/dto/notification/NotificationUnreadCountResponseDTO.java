@@ -0,0 +1,10 @@
+package org.example.studylog.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class NotificationUnreadCountResponseDTO {
+    private int unreadCount;
+}
@@ -12,6 +12,7 @@ import org.hibernate.annotations.OnDeleteAction;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uq_friend_user_friend", columnNames = {"user_id", "friend_id"}))
 public class Friend {
 
     @Id
@@ -0,0 +1,34 @@
+package org.example.studylog.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.studylog.entity.user.User;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 마감된 월의 사용자별 기록 수 (월 마감 시 user_monthly_stat에서 복사)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "monthly_ranking_snapshot",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"year", "month", "user_id"}))
+public class MonthlyRankingSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    private int year;
+    private int month;
+
+    @Column(nullable = false)
+    private int recordCount;
+}
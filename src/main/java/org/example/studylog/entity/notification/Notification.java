@@ -19,8 +19,11 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class Notification {
 
+    // SSE 이벤트 id로 쓰므로 서버마다 id 구간을 미리 할당받지 않고 시퀀스에서 하나씩 받음
+    // id는 INSERT 시점에 정해지므로 서버 여러 대가 동시에 저장하면 커밋 순서와 다를 수 있음 (재전송 시 겹치는 구간으로 보완)
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq_generator")
+    @SequenceGenerator(name = "notification_seq_generator", sequenceName = "notification_seq", allocationSize = 1)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,17 @@
+package org.example.studylog.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FriendChangedEvent {
+
+    private final Long userId;
+    private final Long friendId;
+    private final ActionType action;
+
+    public enum ActionType{
+        ADD, DELETE
+    }
+}
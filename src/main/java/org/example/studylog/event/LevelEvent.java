@@ -9,6 +9,7 @@ import org.example.studylog.entity.user.User;
 public class LevelEvent {
 
     private final User user;
+    private final int previousLevel;
     private final int newLevel;
     private final ActionType action;
 
@@ -0,0 +1,10 @@
+package org.example.studylog.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProfileUpdatedEvent {
+    private final Long userId;
+}
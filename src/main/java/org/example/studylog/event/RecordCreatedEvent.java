@@ -3,10 +3,19 @@ package org.example.studylog.event;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.LocalDate;
+
 @Getter
 @AllArgsConstructor
 public class RecordCreatedEvent {
     private final Long userId;
-    private final int year;
-    private final int month;
+    private final LocalDate recordDate;
+
+    public int getYear() {
+        return recordDate.getYear();
+    }
+
+    public int getMonth() {
+        return recordDate.getMonthValue();
+    }
 }
@@ -0,0 +1,40 @@
+package org.example.studylog.event.listener;
+
+import lombok.RequiredArgsConstructor;
+import org.example.studylog.event.FriendChangedEvent;
+import org.example.studylog.service.CacheInvalidationService;
+import org.example.studylog.service.FriendGraphService;
+import org.example.studylog.service.FriendSuggestionService;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+@Component
+@RequiredArgsConstructor
+public class FriendGraphListener {
+
+    private final FriendGraphService friendGraphService;
+    private final FriendSuggestionService friendSuggestionService;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    // 메인 페이지 캐시 무효화보다 먼저 반영되어야 무효화 직후 다시 만든 페이지가 새 친구 목록을 읽음
+    // 다른 서버에도 메인 페이지 무효화보다 먼저 전파됨 (같은 발행 스레드에서 순서대로 NOTIFY)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handleFriendChanged(FriendChangedEvent event) {
+        if (event.getAction() == FriendChangedEvent.ActionType.ADD) {
+            friendGraphService.applyAdded(event.getUserId(), event.getFriendId());
+        } else {
+            friendGraphService.applyDeleted(event.getUserId(), event.getFriendId());
+        }
+
+        // 두 사용자와 그 친구들의 추천 후보가 바뀜
+        friendSuggestionService.invalidateAround(List.of(event.getUserId(), event.getFriendId()));
+        cacheInvalidationService.propagateFriendChange(event.getUserId(), event.getFriendId());
+    }
+}
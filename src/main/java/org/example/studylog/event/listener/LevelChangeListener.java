@@ -35,10 +35,10 @@ public class LevelChangeListener {
             currentUser.setLevel(newLevel); // 레벨 업데이트
 
             if(lastLevel > newLevel){
-                eventPublisher.publishEvent(new LevelEvent(currentUser, newLevel, LevelEvent.ActionType.DOWN));
+                eventPublisher.publishEvent(new LevelEvent(currentUser, lastLevel, newLevel, LevelEvent.ActionType.DOWN));
             }
             else if(lastLevel < newLevel){
-                eventPublisher.publishEvent(new LevelEvent(currentUser, newLevel, LevelEvent.ActionType.UP));
+                eventPublisher.publishEvent(new LevelEvent(currentUser, lastLevel, newLevel, LevelEvent.ActionType.UP));
             }
         }
     }
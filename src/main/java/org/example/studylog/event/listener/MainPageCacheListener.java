@@ -0,0 +1,62 @@
+package org.example.studylog.event.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.event.FriendChangedEvent;
+import org.example.studylog.event.LevelEvent;
+import org.example.studylog.event.ProfileUpdatedEvent;
+import org.example.studylog.event.RecordEvent;
+import org.example.studylog.service.CacheInvalidationService;
+import org.example.studylog.service.FriendGraphService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+// 메인 페이지에 보이는 데이터가 바뀌는 이벤트가 커밋되면 관련 사용자의 캐시를 무효화
+// (RecordCreatedEvent/RecordDeletedEvent는 집계 반영 후 RecordEventListener에서 무효화)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MainPageCacheListener {
+
+    private final CacheInvalidationService cacheInvalidationService;
+    private final FriendGraphService friendGraphService;
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handleRecordEvent(RecordEvent event) {
+        evict(List.of(event.getUser().getId()));
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handleLevelChange(LevelEvent event) {
+        evict(List.of(event.getUser().getId()));
+    }
+
+    // 두 사용자의 친구 목록(following)이 모두 바뀜
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handleFriendChanged(FriendChangedEvent event) {
+        evict(List.of(event.getUserId(), event.getFriendId()));
+    }
+
+    // 본인 프로필과, 친구들의 메인 페이지 친구 목록에 보이는 닉네임/프로필 이미지가 바뀜
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handleProfileUpdated(ProfileUpdatedEvent event) {
+        // 랭킹, 친구 목록에 표시되는 닉네임/프로필 이미지
+        cacheInvalidationService.evictUserSummary(event.getUserId());
+        List<Long> userIds = new ArrayList<>();
+        userIds.add(event.getUserId());
+        for (long friendId : friendGraphService.getFriendIds(event.getUserId())) {
+            userIds.add(friendId);
+        }
+        evict(userIds);
+    }
+
+    // 캐시 무효화 + 공유 프로필 버전 증가 (다른 서버 포함)
+    private void evict(List<Long> userIds) {
+        cacheInvalidationService.evictMainPages(userIds);
+    }
+}
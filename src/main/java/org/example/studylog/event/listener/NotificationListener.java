@@ -6,22 +6,22 @@ import org.example.studylog.dto.notification.NotificationDTO;
 import org.example.studylog.entity.notification.NotificationType;
 import org.example.studylog.entity.user.User;
 import org.example.studylog.event.LevelEvent;
-import org.example.studylog.service.NotificationService;
+import org.example.studylog.service.notification.NotificationCoalescer;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationListener {
 
-    private final NotificationService notificationService;
+    private static final String LEVEL_KEY = "LEVEL";
+
+    private final NotificationCoalescer notificationCoalescer;
 
     @Async
     @EventListener
-    @Transactional
     public void handleLevelChange(LevelEvent event){
         User currentUser = event.getUser();
         log.info("레벨 변경 알림 전송: USER={}, LEVEL={}", currentUser.getOauthId(), event.getNewLevel());
@@ -34,9 +34,13 @@ public class NotificationListener {
             message = String.format("Lv.%d 뱃지로 하락했습니다.", event.getNewLevel());
         }
 
-        // 알림 보내기
-        notificationService.sendToClient(
+        // 알림 보내기 (짧은 시간 안에 UP/DOWN이 반복되면 합쳐서 보냄)
+        notificationCoalescer.submit(
+                currentUser.getId(),
                 currentUser.getOauthId(),
+                LEVEL_KEY,
+                event.getPreviousLevel(),
+                event.getNewLevel(),
                 NotificationDTO.builder()
                         .content(message)
                         .type(NotificationType.BADGE)
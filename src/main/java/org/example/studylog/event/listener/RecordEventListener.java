@@ -4,11 +4,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.studylog.event.RecordCreatedEvent;
 import org.example.studylog.event.RecordDeletedEvent;
-import org.example.studylog.repository.custom.RankingRepositoryImpl;
+import org.example.studylog.repository.GlobalLeaderboardRepository;
+import org.example.studylog.repository.LeaderboardRepository;
+import org.example.studylog.repository.UserDailyStatRepository;
+import org.example.studylog.repository.YearlyHeatmapRepository;
+import org.example.studylog.service.CacheInvalidationService;
+import org.example.studylog.service.MonthlyStatWriter;
+import org.example.studylog.service.RankingSnapshotService;
+import org.example.studylog.service.StreakService;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.YearMonth;
+import java.util.List;
+
 import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
 
 @Slf4j
@@ -16,19 +26,76 @@ import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMI
 @RequiredArgsConstructor
 public class RecordEventListener {
 
-    private final RankingRepositoryImpl rankingRepository;
+    private final MonthlyStatWriter monthlyStatWriter;
+    private final LeaderboardRepository leaderboardRepository;
+    private final GlobalLeaderboardRepository globalLeaderboardRepository;
+    private final RankingSnapshotService rankingSnapshotService;
+    private final UserDailyStatRepository userDailyStatRepository;
+    private final YearlyHeatmapRepository yearlyHeatmapRepository;
+    private final StreakService streakService;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @Async
     @TransactionalEventListener(phase = AFTER_COMMIT)
     public void handleRecordCreated(RecordCreatedEvent event) {
         log.info("랭킹 집계 증가 이벤트 발행: USER={}, YEAR={}, MONTH={}", event.getUserId(), event.getYear(), event.getMonth());
-        rankingRepository.incrementOrInsert(event.getUserId(), event.getYear(), event.getMonth());
+        YearMonth month = YearMonth.of(event.getYear(), event.getMonth());
+        writeMonthlyStat(month, () -> monthlyStatWriter.increment(event.getUserId(), event.getYear(), event.getMonth()));
+        leaderboardRepository.applyDelta(event.getUserId(), month, 1);
+        globalLeaderboardRepository.applyDelta(event.getUserId(), month, 1);
+        rankingSnapshotService.applyLateChange(event.getUserId(), month, 1);
+        yearlyHeatmapRepository.beginChange(event.getUserId(), event.getRecordDate());
+        try {
+            userDailyStatRepository.increment(event.getUserId(), event.getRecordDate());
+        } catch (RuntimeException e) {
+            yearlyHeatmapRepository.cancelChange(event.getUserId(), event.getRecordDate());
+            throw e;
+        }
+        yearlyHeatmapRepository.applyDelta(event.getUserId(), event.getRecordDate(), 1);
+        cacheInvalidationService.evictMainPages(List.of(event.getUserId()));
     }
 
     @Async
     @TransactionalEventListener(phase = AFTER_COMMIT)
     public void handleRecordDeleted(RecordDeletedEvent event){
         log.info("랭킹 집계 감소 이벤트 발행: USER={}, YEAR={}, MONTH={}", event.getUserId(), event.getYear(), event.getMonth());
-        rankingRepository.decrement(event.getUserId(), event.getYear(), event.getMonth());
+        YearMonth month = YearMonth.of(event.getYear(), event.getMonth());
+        writeMonthlyStat(month, () -> monthlyStatWriter.decrement(event.getUserId(), event.getYear(), event.getMonth()));
+        leaderboardRepository.applyDelta(event.getUserId(), month, -1);
+        globalLeaderboardRepository.applyDelta(event.getUserId(), month, -1);
+        rankingSnapshotService.applyLateChange(event.getUserId(), month, -1);
+        yearlyHeatmapRepository.beginChange(event.getUserId(), event.getRecordDate());
+        int updated;
+        try {
+            updated = userDailyStatRepository.decrement(event.getUserId(), event.getRecordDate());
+        } catch (RuntimeException e) {
+            yearlyHeatmapRepository.cancelChange(event.getUserId(), event.getRecordDate());
+            throw e;
+        }
+        if (updated == 0) {
+            yearlyHeatmapRepository.cancelChange(event.getUserId(), event.getRecordDate());
+            log.warn("user_daily_stat에 행이 없거나 recordCount가 이미 0: userId={}, date={}",
+                    event.getUserId(), event.getRecordDate());
+        } else {
+            yearlyHeatmapRepository.applyDelta(event.getUserId(), event.getRecordDate(), -1);
+        }
+
+        // 삭제된 기록이 연속 구간을 끊었을 수 있으므로 스트릭 재계산
+        streakService.recomputeStreak(event.getUserId());
+        cacheInvalidationService.evictMainPages(List.of(event.getUserId()));
+    }
+
+    // 쓰는 동안 랭킹 보드를 적재하면 조회 결과에 이 변경이 이미 들어 있을 수 있으므로, 쓰기 전후를 보드에 알림
+    // 쓰기에 성공하면 호출하는 쪽에서 applyDelta로 끝냄
+    private void writeMonthlyStat(YearMonth month, Runnable write) {
+        leaderboardRepository.beginChange(month);
+        globalLeaderboardRepository.beginChange();
+        try {
+            write.run();
+        } catch (RuntimeException e) {
+            leaderboardRepository.cancelChange(month);
+            globalLeaderboardRepository.cancelChange();
+            throw e;
+        }
     }
 }
@@ -11,7 +11,9 @@ public enum ErrorCode {
     SELF_LOOKUP_NOT_ALLOWED(400, "자기 자신은 조회할 수 없습니다."),
     NOTIFICATION_CONNECTION_ERROR(500, "알림 서버와 연결이 실패하였습니다."),
     STUDY_RECORD_NOT_FOUND(404, "기록이 존재하지 않습니다."),
-    QUIZ_ALREADY_EXISTS(400, "이미 퀴즈가 생성된 기록입니다.");
+    QUIZ_ALREADY_EXISTS(400, "이미 퀴즈가 생성된 기록입니다."),
+    INVALID_RANKING_PERIOD(400, "잘못된 랭킹 조회 기간입니다."),
+    BROADCAST_NOT_FOUND(404, "전송 기록이 없는 공지입니다.");
 
     private int status;
     private final String message;
@@ -1,31 +1,93 @@
 package org.example.studylog.repository;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+// 사용자별 SSE 연결 저장소 (탭/기기마다 연결을 따로 보관하고, 사용자당 개수를 제한)
 @Slf4j
 @Repository
 public class EmitterRepository {
-    private Map<String, SseEmitter> emitterMap = new ConcurrentHashMap<>();
 
-    public SseEmitter save(String oauthId, SseEmitter sseEmitter){
-        emitterMap.put(oauthId, sseEmitter);
-        log.info("Saved SseEmitter for {}", sseEmitter);
-        return sseEmitter;
+    // oauthId -> (emitterId -> emitter), 내부 맵은 연결 순서 유지
+    private final Map<String, LinkedHashMap<String, SseEmitter>> emitterMap = new ConcurrentHashMap<>();
+    private final AtomicInteger count = new AtomicInteger();
+    private final int maxPerUser;
+
+    public EmitterRepository(@Value("${notification.emitter.max-per-user:5}") int maxPerUser) {
+        this.maxPerUser = maxPerUser;
+    }
+
+    // 저장 후 개수 제한을 넘으면 가장 오래된 연결을 꺼내서 반환 (없으면 null)
+    public SseEmitter save(String oauthId, String emitterId, SseEmitter sseEmitter) {
+        SseEmitter[] evicted = new SseEmitter[1];
+        emitterMap.compute(oauthId, (key, emitters) -> {
+            if (emitters == null) {
+                emitters = new LinkedHashMap<>();
+            }
+            if (emitters.put(emitterId, sseEmitter) == null) {
+                count.incrementAndGet();
+            }
+            if (emitters.size() > maxPerUser) {
+                Iterator<SseEmitter> oldest = emitters.values().iterator();
+                evicted[0] = oldest.next();
+                oldest.remove();
+                count.decrementAndGet();
+            }
+            return emitters;
+        });
+        log.info("Saved SseEmitter for {} ({})", oauthId, emitterId);
+        return evicted[0];
+    }
+
+    // 사용자의 모든 연결 (emitterId -> emitter 복사본)
+    public Map<String, SseEmitter> findAllByOauthId(String oauthId) {
+        Map<String, SseEmitter> result = new LinkedHashMap<>();
+        emitterMap.computeIfPresent(oauthId, (key, emitters) -> {
+            result.putAll(emitters);
+            return emitters;
+        });
+        return result;
+    }
+
+    // 이 서버의 모든 연결 (공지 전송용 복사본)
+    public List<Connection> findAll() {
+        List<Connection> result = new ArrayList<>(count.get());
+        emitterMap.forEach((oauthId, ignored) ->
+                findAllByOauthId(oauthId).forEach((emitterId, emitter) ->
+                        result.add(new Connection(oauthId, emitterId, emitter))));
+        return result;
+    }
+
+    public boolean hasEmitter(String oauthId) {
+        return emitterMap.containsKey(oauthId);
+    }
+
+    // 이 서버의 전체 연결 수
+    public int count() {
+        return count.get();
     }
 
-    public SseEmitter get(String oauthId){
-        log.info("Got SseEmitter for {}", oauthId);
-        return emitterMap.get(oauthId);
+    // 해당 연결만 삭제 (같은 사용자의 다른 연결은 유지)
+    public void delete(String oauthId, String emitterId) {
+        emitterMap.computeIfPresent(oauthId, (key, emitters) -> {
+            if (emitters.remove(emitterId) != null) {
+                count.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+        log.info("Deleted SseEmitter for {} ({})", oauthId, emitterId);
     }
 
-    public void delete(String oauthId) {
-        emitterMap.remove(oauthId);
-        log.info("Deleted SseEmitter for {}", oauthId);
+    public record Connection(String oauthId, String emitterId, SseEmitter emitter) {
     }
 }
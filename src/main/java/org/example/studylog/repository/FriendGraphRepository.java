@@ -0,0 +1,115 @@
+package org.example.studylog.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 사용자별 친구 ID 목록(오름차순 long[]) LRU 캐시
+// 배열은 공유되므로 수정하지 않고, 변경 시 새 배열로 교체
+// 다른 서버에서 바뀐 친구 관계는 CacheInvalidationService로 전파되어 evict됨
+@Slf4j
+@Repository
+public class FriendGraphRepository {
+
+    private static final int STAMP_STRIPES = 1024;
+
+    private final Map<Long, long[]> adjacencyMap;
+    // 사용자 ID 해시 구간별 변경 횟수 (조회 중에 바뀐 목록을 저장하지 않기 위함)
+    private final AtomicLongArray changeStamps = new AtomicLongArray(STAMP_STRIPES);
+
+    public FriendGraphRepository(@Value("${friend.graph.cache.max-size:20000}") int maxSize) {
+        this.adjacencyMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, long[]> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public long[] get(Long userId) {
+        synchronized (adjacencyMap) {
+            return adjacencyMap.get(userId);
+        }
+    }
+
+    // DB 조회 전에 받아두고 save 시 전달
+    public long currentStamp(Long userId) {
+        return changeStamps.get(stripeOf(userId));
+    }
+
+    // 조회하는 동안 변경이 없었을 때만 저장
+    public void save(Long userId, long[] friendIds, long stamp) {
+        synchronized (adjacencyMap) {
+            if (changeStamps.get(stripeOf(userId)) != stamp) {
+                log.debug("친구 목록 조회 중 변경 발생, 캐시 저장 생략: userId={}", userId);
+                return;
+            }
+            adjacencyMap.put(userId, friendIds);
+        }
+    }
+
+    // 캐시된 사용자만 갱신 (캐시되지 않은 사용자는 다음 조회 때 DB에서 읽음)
+    public void addEdge(Long userId, Long friendId) {
+        synchronized (adjacencyMap) {
+            changeStamps.incrementAndGet(stripeOf(userId));
+            long[] friendIds = adjacencyMap.get(userId);
+            if (friendIds == null) {
+                return;
+            }
+            int index = Arrays.binarySearch(friendIds, friendId);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            long[] updated = new long[friendIds.length + 1];
+            System.arraycopy(friendIds, 0, updated, 0, insertAt);
+            updated[insertAt] = friendId;
+            System.arraycopy(friendIds, insertAt, updated, insertAt + 1, friendIds.length - insertAt);
+            adjacencyMap.put(userId, updated);
+        }
+    }
+
+    public void removeEdge(Long userId, Long friendId) {
+        synchronized (adjacencyMap) {
+            changeStamps.incrementAndGet(stripeOf(userId));
+            long[] friendIds = adjacencyMap.get(userId);
+            if (friendIds == null) {
+                return;
+            }
+            int index = Arrays.binarySearch(friendIds, friendId);
+            if (index < 0) {
+                return;
+            }
+            long[] updated = new long[friendIds.length - 1];
+            System.arraycopy(friendIds, 0, updated, 0, index);
+            System.arraycopy(friendIds, index + 1, updated, index, friendIds.length - index - 1);
+            adjacencyMap.put(userId, updated);
+        }
+    }
+
+    // 다른 서버에서 바뀐 친구 관계는 증분 반영하지 않고 제거 후 다음 조회 때 DB에서 읽음
+    public void evict(Long userId) {
+        synchronized (adjacencyMap) {
+            changeStamps.incrementAndGet(stripeOf(userId));
+            adjacencyMap.remove(userId);
+        }
+    }
+
+    public void evictAll() {
+        synchronized (adjacencyMap) {
+            for (int i = 0; i < STAMP_STRIPES; i++) {
+                changeStamps.incrementAndGet(i);
+            }
+            adjacencyMap.clear();
+        }
+    }
+
+    private int stripeOf(Long userId) {
+        return Math.floorMod(userId.hashCode(), STAMP_STRIPES);
+    }
+}
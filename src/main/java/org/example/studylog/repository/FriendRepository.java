@@ -2,21 +2,33 @@ package org.example.studylog.repository;
 
 
 import org.example.studylog.entity.Friend;
-import org.example.studylog.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface FriendRepository extends JpaRepository<Friend, Long> {
 
-    boolean existsByUserAndFriend(User user, User friend);
-
-    Optional<Friend> findByUserAndFriend(User user, User friend);
-
-    long countByUser(User user);
-
     @Query("SELECT f.friend.id FROM Friend f WHERE f.user.id = :userId")
     List<Long> findFriendIdsByUserId(Long userId);
+
+    // 양방향 관계를 한 번에 추가, 이미 있는 방향은 건너뜀 (추가된 행 수 반환)
+    // id는 엔티티와 같은 friend_seq에서 발급
+    @Modifying
+    @Query(value = "INSERT INTO friend (id, user_id, friend_id) VALUES " +
+            "(nextval('friend_seq'), :userId, :friendId), " +
+            "(nextval('friend_seq'), :friendId, :userId) " +
+            "ON CONFLICT ON CONSTRAINT uq_friend_user_friend DO NOTHING",
+            nativeQuery = true)
+    int insertBothDirections(@Param("userId") Long userId, @Param("friendId") Long friendId);
+
+    // 양방향 관계를 한 번에 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query(value = "DELETE FROM friend " +
+            "WHERE (user_id = :userId AND friend_id = :friendId) " +
+            "OR (user_id = :friendId AND friend_id = :userId)",
+            nativeQuery = true)
+    int deleteBothDirections(@Param("userId") Long userId, @Param("friendId") Long friendId);
 }
@@ -0,0 +1,63 @@
+package org.example.studylog.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 친구 추천 결과 LRU 캐시 (친구 관계 변경 시 주변 사용자 무효화)
+@Repository
+public class FriendSuggestionRepository {
+
+    private final Map<Long, List<Suggestion>> suggestionMap;
+    // 무효화 횟수 (계산 중에 친구 관계가 바뀐 결과를 저장하지 않기 위함)
+    private final AtomicLong invalidationStamp = new AtomicLong();
+
+    public FriendSuggestionRepository(@Value("${friend.suggestion.cache.max-size:10000}") int maxSize) {
+        this.suggestionMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, List<Suggestion>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public List<Suggestion> get(Long userId) {
+        synchronized (suggestionMap) {
+            return suggestionMap.get(userId);
+        }
+    }
+
+    public long currentStamp() {
+        return invalidationStamp.get();
+    }
+
+    public void save(Long userId, List<Suggestion> suggestions, long stamp) {
+        synchronized (suggestionMap) {
+            if (invalidationStamp.get() != stamp) {
+                return;
+            }
+            suggestionMap.put(userId, List.copyOf(suggestions));
+        }
+    }
+
+    public void invalidate(Long userId) {
+        synchronized (suggestionMap) {
+            invalidationStamp.incrementAndGet();
+            suggestionMap.remove(userId);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (suggestionMap) {
+            invalidationStamp.incrementAndGet();
+            suggestionMap.clear();
+        }
+    }
+
+    public record Suggestion(Long userId, int mutualCount) {
+    }
+}
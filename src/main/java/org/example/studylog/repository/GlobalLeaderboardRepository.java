@@ -0,0 +1,262 @@
+package org.example.studylog.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 이번 달 전체 사용자 랭킹
+// - 기록 수별 사용자 수를 펜윅 트리로 관리해 "내 순위"를 O(log n)으로 계산
+// - (기록 수 내림차순, 사용자 ID 오름차순) 정렬 집합으로 페이지 조회
+// 기록 수가 1 이상인 사용자만 랭킹에 포함
+@Slf4j
+@Repository
+public class GlobalLeaderboardRepository {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    // 조회 결과에 DB에 쓰는 중인 변경이 들어갔는지 알 수 없을 때 다시 조회하는 횟수
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    private static final Comparator<Entry> RANKING_ORDER =
+            Comparator.comparingInt(Entry::recordCount).reversed().thenComparing(Entry::userId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private YearMonth month;
+    private final Map<Long, Integer> countMap = new HashMap<>();
+    private final NavigableSet<Entry> ordered = new TreeSet<>(RANKING_ORDER);
+    // tree[i]: 기록 수 i(1부터)를 가진 사용자 수의 펜윅 트리
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+
+    // 기록 수 변경 횟수와 DB에 쓰는 중인 변경 수 (재구성 중 변경을 감지하기 위함, 쓰기 락으로 동기화)
+    private long changeStamp;
+    private int inFlight;
+    // 다른 서버의 변경이 전파되었거나 깨끗한 조회 결과로 재구성하지 못해 다시 구성해야 하는 상태
+    private volatile boolean stale;
+
+    // loader(테이블 조회) 값으로 전체 재구성 (기동 시, 월이 바뀐 뒤, 보드가 오래되었을 때)
+    // 조회하는 동안 변경이 있었으면 다시 조회하고, 끝내 변경이 계속되면 마지막 결과로 구성한 뒤 stale로 남김
+    // 호출하는 쪽에서 동시에 실행되지 않도록 보장
+    public void rebuild(YearMonth month, Supplier<Map<Long, Integer>> loader) {
+        for (int attempt = 1; ; attempt++) {
+            long stamp;
+            boolean settled;
+            lock.readLock().lock();
+            try {
+                stamp = changeStamp;
+                settled = inFlight == 0;
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            // 테이블 조회는 락 밖에서 수행
+            Map<Long, Integer> counts = loader.get();
+
+            lock.writeLock().lock();
+            try {
+                boolean clean = settled && changeStamp == stamp;
+                if (!clean && attempt < MAX_REBUILD_ATTEMPTS) {
+                    log.debug("전체 랭킹 조회 중 변경 발생, 다시 조회: month={}, attempt={}", month, attempt);
+                    continue;
+                }
+                install(month, counts);
+                stale = !clean;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("전체 랭킹 재구성: month={}, 사용자 수={}, stale={}", month, counts.size(), stale);
+            return;
+        }
+    }
+
+    public YearMonth getMonth() {
+        lock.readLock().lock();
+        try {
+            return month;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    // 다른 서버에서 바뀐 기록 수는 증분 반영하지 않고 다음 조회 때 재구성
+    public void markStale() {
+        stale = true;
+    }
+
+    // user_monthly_stat에 쓰기 전에 호출하고, 쓴 뒤에 applyDelta(실패하면 cancelChange)로 끝냄
+    public void beginChange() {
+        lock.writeLock().lock();
+        try {
+            changeStamp++;
+            inFlight++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void cancelChange() {
+        lock.writeLock().lock();
+        try {
+            endChange();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 현재 보드의 월에 대한 변경만 반영
+    public void applyDelta(Long userId, YearMonth month, int delta) {
+        lock.writeLock().lock();
+        try {
+            endChange();
+            if (month.equals(this.month)) {
+                applyLocked(userId, delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 락 안에서 호출
+    private void endChange() {
+        changeStamp++;
+        if (inFlight > 0) {
+            inFlight--;
+        }
+    }
+
+    // 쓰기 락 안에서 호출
+    private void install(YearMonth month, Map<Long, Integer> counts) {
+        this.month = month;
+        countMap.clear();
+        ordered.clear();
+        int maxCount = counts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        tree = new int[Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, maxCount)) * 2) + 1];
+        counts.forEach((userId, count) -> {
+            if (count > 0) {
+                countMap.put(userId, count);
+                ordered.add(new Entry(userId, count));
+                add(count, 1);
+            }
+        });
+    }
+
+    // 쓰기 락 안에서 호출
+    private void applyLocked(Long userId, int delta) {
+        int before = countMap.getOrDefault(userId, 0);
+        int after = Math.max(0, before + delta);
+        if (before == after) {
+            return;
+        }
+        ensureCapacity(after);
+
+        if (before > 0) {
+            ordered.remove(new Entry(userId, before));
+            add(before, -1);
+        }
+        if (after > 0) {
+            countMap.put(userId, after);
+            ordered.add(new Entry(userId, after));
+            add(after, 1);
+        } else {
+            countMap.remove(userId);
+        }
+    }
+
+    // 커서(마지막으로 받은 항목) 다음부터 size개, 커서가 없으면 1위부터
+    public List<RankedEntry> findPage(Integer lastCount, Long lastId, int size) {
+        lock.readLock().lock();
+        try {
+            Iterator<Entry> iterator = (lastCount == null || lastId == null)
+                    ? ordered.iterator()
+                    : ordered.tailSet(new Entry(lastId, lastCount), false).iterator();
+
+            List<RankedEntry> page = new ArrayList<>(size);
+            while (iterator.hasNext() && page.size() < size) {
+                Entry entry = iterator.next();
+                page.add(new RankedEntry(entry.userId(), entry.recordCount(), rankOf(entry.recordCount())));
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 랭킹에 없으면(이번 달 기록 0개) recordCount 0, rank는 기록이 있는 사용자 수 + 1
+    public MyRank findRank(Long userId) {
+        lock.readLock().lock();
+        try {
+            int count = countMap.getOrDefault(userId, 0);
+            int total = countMap.size();
+            int rank = count > 0 ? rankOf(count) : total + 1;
+            return new MyRank(userId, count, rank, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return countMap.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 나보다 기록 수가 많은 사용자 수 + 1 (동점자는 같은 순위)
+    private int rankOf(int count) {
+        return countMap.size() - prefixSum(count) + 1;
+    }
+
+    private void add(int count, int delta) {
+        for (int i = count; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // 기록 수가 1 ~ count인 사용자 수
+    private int prefixSum(int count) {
+        int sum = 0;
+        for (int i = Math.min(count, tree.length - 1); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // 최대 기록 수가 트리 크기를 넘으면 두 배씩 늘려 현재 값으로 다시 구성
+    private void ensureCapacity(int count) {
+        if (count < tree.length) {
+            return;
+        }
+        int capacity = tree.length - 1;
+        while (capacity <= count) {
+            capacity *= 2;
+        }
+        tree = new int[capacity + 1];
+        countMap.values().forEach(userCount -> add(userCount, 1));
+    }
+
+    private record Entry(Long userId, int recordCount) {
+    }
+
+    public record RankedEntry(Long userId, int recordCount, int rank) {
+    }
+
+    public record MyRank(Long userId, int recordCount, int rank, int totalUsers) {
+    }
+}
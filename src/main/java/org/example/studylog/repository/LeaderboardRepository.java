@@ -0,0 +1,131 @@
+package org.example.studylog.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 월별 랭킹용 userId -> 기록 수 보드를 담아두는 인메모리 저장소
+// 보드는 최근 조회된 몇 개 월만 유지하고, 기록 이벤트로 증분 갱신
+// 다른 서버에서 바뀐 기록 수는 CacheInvalidationService로 전파되어 evict됨
+@Slf4j
+@Repository
+public class LeaderboardRepository {
+
+    private final Map<YearMonth, Map<Long, Integer>> boardMap;
+    // 월별 변경 상태 (boardMap으로 동기화)
+    private final Map<YearMonth, ChangeState> changeMap = new HashMap<>();
+    // 전체 제거 횟수 (제거 전에 시작한 조회 결과를 저장하지 않기 위함, boardMap으로 동기화)
+    private long evictions;
+
+    public LeaderboardRepository(@Value("${ranking.leaderboard.max-months:3}") int maxMonths) {
+        this.boardMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, Map<Long, Integer>> eldest) {
+                if (size() > maxMonths) {
+                    log.info("랭킹 보드 제거: month={}", eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // 보드가 있으면 그대로 반환, 없으면 loader(user_monthly_stat 조회)로 생성 후 저장
+    // 조회 도중 변경이 있었거나 DB에 쓰는 중인 변경이 있었으면 조회 결과에 그 변경이 들어갔는지 알 수 없으므로 저장하지 않음
+    public Map<Long, Integer> getOrLoad(YearMonth month, Supplier<Map<Long, Integer>> loader) {
+        long stamp;
+        long evictionsAtStart;
+        boolean settled;
+        synchronized (boardMap) {
+            Map<Long, Integer> board = boardMap.get(month);
+            if (board != null) {
+                return board;
+            }
+            ChangeState state = changeMap.get(month);
+            stamp = state != null ? state.stamp : 0;
+            evictionsAtStart = evictions;
+            settled = state == null || state.inFlight == 0;
+        }
+
+        // DB 조회는 락 밖에서 수행
+        Map<Long, Integer> loaded = new ConcurrentHashMap<>(loader.get());
+
+        synchronized (boardMap) {
+            Map<Long, Integer> existing = boardMap.get(month);
+            if (existing != null) {
+                return existing;
+            }
+            ChangeState state = changeMap.get(month);
+            if (!settled || (state != null ? state.stamp : 0) != stamp || evictions != evictionsAtStart) {
+                log.debug("랭킹 보드 조회 중 변경 발생, 저장 생략: month={}", month);
+                return loaded;
+            }
+            boardMap.put(month, loaded);
+        }
+        log.info("랭킹 보드 적재: month={}, users={}", month, loaded.size());
+        return loaded;
+    }
+
+    // user_monthly_stat에 쓰기 전에 호출하고, 쓴 뒤에 applyDelta(실패하면 cancelChange)로 끝냄
+    public void beginChange(YearMonth month) {
+        synchronized (boardMap) {
+            ChangeState state = changeMap.computeIfAbsent(month, m -> new ChangeState());
+            state.stamp++;
+            state.inFlight++;
+        }
+    }
+
+    public void cancelChange(YearMonth month) {
+        synchronized (boardMap) {
+            endChange(month);
+        }
+    }
+
+    // 보드가 적재된 월에만 기록 수를 delta만큼 갱신 (적재되지 않은 월은 다음 조회 때 DB에서 읽음)
+    public void applyDelta(Long userId, YearMonth month, int delta) {
+        Map<Long, Integer> board;
+        synchronized (boardMap) {
+            endChange(month);
+            board = boardMap.get(month);
+        }
+        if (board == null) {
+            return;
+        }
+        if (delta > 0) {
+            board.merge(userId, delta, Integer::sum);
+        } else {
+            // user_monthly_stat과 마찬가지로 행이 없으면 무시하고, 0 아래로는 내리지 않음
+            board.computeIfPresent(userId, (id, count) -> Math.max(0, count + delta));
+        }
+    }
+
+    // 다른 서버에서 바뀐 기록 수는 증분 반영하지 않고 제거 후 다음 조회 때 DB에서 읽음
+    public void evictAll() {
+        synchronized (boardMap) {
+            evictions++;
+            boardMap.clear();
+        }
+        log.debug("랭킹 보드 전체 제거");
+    }
+
+    // boardMap 락 안에서 호출
+    private void endChange(YearMonth month) {
+        ChangeState state = changeMap.computeIfAbsent(month, m -> new ChangeState());
+        state.stamp++;
+        if (state.inFlight > 0) {
+            state.inFlight--;
+        }
+    }
+
+    private static class ChangeState {
+        private long stamp;
+        private int inFlight;
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.studylog.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.dto.MainPageResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 사용자별 메인 페이지 응답 LRU 캐시 (기록/친구/프로필 변경 이벤트로 무효화)
+// 다른 서버의 무효화는 NotificationBus로 전파되지만 유실될 수 있으므로 TTL도 둠
+@Slf4j
+@Repository
+public class MainPageCacheRepository {
+
+    private static final int STAMP_STRIPES = 1024;
+
+    private final Map<Long, CachedPage> pageMap;
+    private final long ttlNanos;
+    // 사용자 ID 해시 구간별 무효화 횟수 (조회 중에 무효화된 결과를 저장하지 않기 위함)
+    private final AtomicLongArray invalidationStamps = new AtomicLongArray(STAMP_STRIPES);
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public MainPageCacheRepository(@Value("${main.cache.max-size:10000}") int maxSize,
+                                   @Value("${main.cache.ttl-seconds:300}") long ttlSeconds,
+                                   MeterRegistry meterRegistry) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.hitCounter = Counter.builder("cache.gets").tag("cache", "mainPage").tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("cache.gets").tag("cache", "mainPage").tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("cache.evictions").tag("cache", "mainPage")
+                .register(meterRegistry);
+
+        this.pageMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedPage> eldest) {
+                if (size() > maxSize) {
+                    evictionCounter.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        Gauge.builder("cache.size", this, MainPageCacheRepository::size).tag("cache", "mainPage")
+                .register(meterRegistry);
+    }
+
+    // 이번 달에 만들어지고 TTL이 지나지 않은 캐시만 반환 (월이 바뀌면 스트릭 데이터가 달라지므로)
+    public MainPageResponseDTO get(Long userId) {
+        CachedPage cached;
+        synchronized (pageMap) {
+            cached = pageMap.get(userId);
+        }
+
+        if (cached == null || !cached.month().equals(YearMonth.now())
+                || System.nanoTime() - cached.savedAtNanos() > ttlNanos) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return cached.page();
+    }
+
+    // 조회 시작 시점의 스탬프 (save 시 전달)
+    public long currentStamp(Long userId) {
+        return invalidationStamps.get(stripe(userId));
+    }
+
+    // 조회하는 동안 무효화가 없었을 때만 저장
+    public void save(Long userId, MainPageResponseDTO page, long stampAtLoad) {
+        synchronized (pageMap) {
+            if (invalidationStamps.get(stripe(userId)) != stampAtLoad) {
+                log.debug("조회 중 무효화되어 메인 페이지 캐시 저장 생략: userId={}", userId);
+                return;
+            }
+            pageMap.put(userId, new CachedPage(YearMonth.now(), System.nanoTime(), page));
+        }
+    }
+
+    public void invalidate(Long userId) {
+        synchronized (pageMap) {
+            invalidationStamps.incrementAndGet(stripe(userId));
+            pageMap.remove(userId);
+        }
+        log.debug("메인 페이지 캐시 무효화: userId={}", userId);
+    }
+
+    public void invalidateAll() {
+        synchronized (pageMap) {
+            for (int i = 0; i < STAMP_STRIPES; i++) {
+                invalidationStamps.incrementAndGet(i);
+            }
+            pageMap.clear();
+        }
+        log.info("메인 페이지 캐시 전체 무효화");
+    }
+
+    public int size() {
+        synchronized (pageMap) {
+            return pageMap.size();
+        }
+    }
+
+    private int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) STAMP_STRIPES);
+    }
+
+    private record CachedPage(YearMonth month, long savedAtNanos, MainPageResponseDTO page) {
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.studylog.repository;
+
+import org.example.studylog.entity.MonthlyRankingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MonthlyRankingSnapshotRepository extends JpaRepository<MonthlyRankingSnapshot, Long> {
+
+    // 해당 월 user_monthly_stat 전체를 스냅샷으로 복사 (재실행 시 덮어씀)
+    @Modifying
+    @Query(value = "INSERT INTO monthly_ranking_snapshot (user_id, year, month, record_count) " +
+            "SELECT user_id, year, month, record_count FROM user_monthly_stat " +
+            "WHERE year = :year AND month = :month " +
+            "ON CONFLICT ON CONSTRAINT uq_monthly_ranking_snapshot " +
+            "DO UPDATE SET record_count = EXCLUDED.record_count",
+            nativeQuery = true)
+    int copyFromMonthlyStat(@Param("year") int year, @Param("month") int month);
+
+    @Modifying
+    @Query(value = "INSERT INTO ranking_month_close (year, month) VALUES (:year, :month) " +
+            "ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int markClosed(@Param("year") int year, @Param("month") int month);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM ranking_month_close WHERE year = :year AND month = :month)",
+            nativeQuery = true)
+    boolean isClosed(@Param("year") int year, @Param("month") int month);
+
+    // 집계 행이 있지만 아직 마감되지 않은, 기준 월 이전의 월 (year, month), 오래된 순
+    @Query(value = "SELECT DISTINCT s.year, s.month FROM user_monthly_stat s " +
+            "WHERE (s.year, s.month) < (:year, :month) " +
+            "AND NOT EXISTS (SELECT 1 FROM ranking_month_close c WHERE c.year = s.year AND c.month = s.month) " +
+            "ORDER BY s.year, s.month",
+            nativeQuery = true)
+    List<Object[]> findUnclosedMonthsBefore(@Param("year") int year, @Param("month") int month);
+
+    // 친구 목록에 해당하는 사용자의 기록 수만 조회 (user_id, record_count)
+    @Query("SELECT s.user.id, s.recordCount FROM MonthlyRankingSnapshot s " +
+            "WHERE s.year = :year AND s.month = :month AND s.user.id IN :userIds")
+    List<Object[]> findCounts(
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("userIds") Collection<Long> userIds);
+
+    // 마감 후 늦게 반영된 기록 생성/삭제 보정 (감소는 행이 있을 때만, 0 아래로는 내리지 않음)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO monthly_ranking_snapshot (user_id, year, month, record_count) " +
+            "VALUES (:userId, :year, :month, 1) " +
+            "ON CONFLICT ON CONSTRAINT uq_monthly_ranking_snapshot " +
+            "DO UPDATE SET record_count = monthly_ranking_snapshot.record_count + 1",
+            nativeQuery = true)
+    int increment(@Param("userId") Long userId, @Param("year") int year, @Param("month") int month);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE monthly_ranking_snapshot SET record_count = record_count - 1 " +
+            "WHERE user_id = :userId AND year = :year AND month = :month AND record_count > 0",
+            nativeQuery = true)
+    int decrement(@Param("userId") Long userId, @Param("year") int year, @Param("month") int month);
+}
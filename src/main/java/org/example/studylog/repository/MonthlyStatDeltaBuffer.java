@@ -0,0 +1,77 @@
+package org.example.studylog.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// user_monthly_stat 쓰기 지연(write-behind)용 버퍼
+// (사용자, 연, 월)별 +1/-1을 합쳐 두었다가 주기적으로 한 번에 반영
+// 사용자 ID 기준으로 구간을 나눠 구간마다 락을 따로 잡음
+@Repository
+public class MonthlyStatDeltaBuffer {
+
+    private final Stripe[] stripes;
+
+    public MonthlyStatDeltaBuffer(@Value("${ranking.stat.write-behind.stripes:16}") int stripeCount) {
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public void add(Long userId, int year, int month, int delta) {
+        Stripe stripe = stripeOf(userId);
+        synchronized (stripe) {
+            stripe.deltas.merge(new StatKey(userId, year, month), delta, Integer::sum);
+        }
+    }
+
+    // 모아둔 변경분을 모두 꺼내고 버퍼를 비움 (합이 0이 된 항목은 제외)
+    public Map<StatKey, Integer> drain() {
+        Map<StatKey, Integer> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<StatKey, Integer> deltas;
+            synchronized (stripe) {
+                if (stripe.deltas.isEmpty()) {
+                    continue;
+                }
+                deltas = stripe.deltas;
+                stripe.deltas = new HashMap<>();
+            }
+            deltas.forEach((key, delta) -> {
+                if (delta != 0) {
+                    drained.put(key, delta);
+                }
+            });
+        }
+        return drained;
+    }
+
+    // 아직 반영되지 않은 해당 월의 변경분 (랭킹 보드 적재 시 DB 값에 더함)
+    public Map<Long, Integer> pendingOf(int year, int month) {
+        Map<Long, Integer> pending = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.deltas.forEach((key, delta) -> {
+                    if (key.year() == year && key.month() == month && delta != 0) {
+                        pending.put(key.userId(), delta);
+                    }
+                });
+            }
+        }
+        return pending;
+    }
+
+    private Stripe stripeOf(Long userId) {
+        return stripes[Math.floorMod(userId.hashCode(), stripes.length)];
+    }
+
+    private static class Stripe {
+        private Map<StatKey, Integer> deltas = new HashMap<>();
+    }
+
+    public record StatKey(Long userId, int year, int month) {
+    }
+}
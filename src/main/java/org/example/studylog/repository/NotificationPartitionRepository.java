@@ -0,0 +1,128 @@
+package org.example.studylog.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+// 알림 월별 파티션 관리 (파티션 이름: notification_pYYYYMM)
+@Repository
+@RequiredArgsConstructor
+public class NotificationPartitionRepository {
+
+    private static final String PARTITION_PREFIX = "notification_p";
+    private static final String DEFAULT_PARTITION = "notification_default";
+    private static final String ARCHIVE_PREFIX = "notification_archive_p";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String FIND_PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = 'notification'";
+
+    // 분리한 파티션의 안 읽은 알림 수만큼 카운터에서 뺌
+    private static final String SUBTRACT_UNREAD_SQL =
+            "UPDATE notification_unread_count c SET unread_count = GREATEST(c.unread_count - x.cnt, 0) " +
+            "FROM (SELECT user_id, COUNT(*) AS cnt FROM %s WHERE is_read = false GROUP BY user_id) x " +
+            "WHERE c.user_id = x.user_id";
+
+    // default 파티션에 들어간 알림의 달 목록
+    private static final String FIND_DEFAULT_MONTHS_SQL =
+            "SELECT DISTINCT to_char(created_at, 'YYYYMM') FROM " + DEFAULT_PARTITION;
+
+    // 새 파티션 범위에 해당하는 행을 default 파티션에서 새 테이블로 옮김
+    private static final String MOVE_FROM_DEFAULT_SQL =
+            "WITH moved AS (DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ? RETURNING *) " +
+            "INSERT INTO %s SELECT * FROM moved";
+
+    // default 파티션의 보관 기간 지난 알림을 chunk만큼 삭제하고 카운터를 맞춤
+    private static final String DELETE_EXPIRED_DEFAULT_SQL =
+            "WITH del AS (DELETE FROM " + DEFAULT_PARTITION + " WHERE (id, created_at) IN (" +
+            "SELECT id, created_at FROM " + DEFAULT_PARTITION + " WHERE created_at < ? LIMIT ?) RETURNING user_id, is_read), " +
+            "sub AS (UPDATE notification_unread_count c SET unread_count = GREATEST(c.unread_count - x.cnt, 0) " +
+            "FROM (SELECT user_id, COUNT(*) AS cnt FROM del WHERE NOT is_read GROUP BY user_id) x " +
+            "WHERE c.user_id = x.user_id) " +
+            "SELECT COUNT(*) FROM del";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 월별 파티션 목록 (default 파티션 제외)
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class).stream()
+                .filter(name -> name.startsWith(PARTITION_PREFIX))
+                .map(name -> parseMonth(name.substring(PARTITION_PREFIX.length())))
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    // default 파티션에 같은 달의 행이 있으면 PARTITION OF 생성이 실패하므로
+    // 빈 테이블을 만들어 해당 행을 옮긴 뒤 붙임 (한 트랜잭션, 부모/default 파티션을 잠깐 잠금)
+    // FK와 인덱스는 붙일 때 부모 테이블 기준으로 생성됨
+    @Transactional
+    public int createPartition(YearMonth month, String lockTimeout) {
+        String name = partitionName(month);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeout + "'");
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE notification INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update(String.format(MOVE_FROM_DEFAULT_SQL, name),
+                Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+        jdbcTemplate.execute(String.format("ALTER TABLE notification ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')",
+                name, from, to));
+        return moved;
+    }
+
+    // default 파티션에 행이 있는 달 목록
+    public List<YearMonth> findDefaultPartitionMonths() {
+        return jdbcTemplate.queryForList(FIND_DEFAULT_MONTHS_SQL, String.class).stream()
+                .map(this::parseMonth)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    // 카운터 갱신과 삭제가 한 문장이므로 chunk마다 짧은 트랜잭션
+    public int deleteExpiredFromDefault(LocalDateTime before, int chunkSize) {
+        Integer deleted = jdbcTemplate.queryForObject(DELETE_EXPIRED_DEFAULT_SQL, Integer.class,
+                Timestamp.valueOf(before), chunkSize);
+        return deleted == null ? 0 : deleted;
+    }
+
+    // 파티션을 분리하고 카운터를 맞춘 뒤 삭제하거나 보관용 이름으로 남김 (한 트랜잭션)
+    // 분리 시 부모 테이블을 잠깐 잠그므로 오래 기다리지 않도록 lock_timeout 설정
+    @Transactional
+    public void detachPartition(YearMonth month, boolean archive, String lockTimeout) {
+        String name = partitionName(month);
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeout + "'");
+        jdbcTemplate.execute("ALTER TABLE notification DETACH PARTITION " + name);
+        jdbcTemplate.update(String.format(SUBTRACT_UNREAD_SQL, name));
+        if (archive) {
+            jdbcTemplate.execute("ALTER TABLE " + name + " RENAME TO " + ARCHIVE_PREFIX + month.format(SUFFIX_FORMAT));
+        } else {
+            jdbcTemplate.execute("DROP TABLE " + name);
+        }
+    }
+
+    // 이름은 YearMonth로만 만들어지므로 SQL에 그대로 넣어도 안전
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+
+    private YearMonth parseMonth(String suffix) {
+        try {
+            return YearMonth.parse(suffix, SUFFIX_FORMAT);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -2,12 +2,23 @@ package org.example.studylog.repository;
 
 import org.example.studylog.entity.notification.Notification;
 import org.example.studylog.entity.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    List<Notification> findTop30ByUserOrderByCreatedAtDesc(User user);
+    // SSE 재연결 시 재전송할 알림: Last-Event-ID 이후 + 그보다 작은 id 중 since 이후에 저장된 알림
+    @Query("SELECT n FROM Notification n WHERE n.user = :user " +
+            "AND (n.id > :lastId OR (n.id < :lastId AND n.createdAt >= :since)) ORDER BY n.id ASC")
+    List<Notification> findReplay(@Param("user") User user, @Param("lastId") Long lastId,
+                                  @Param("since") LocalDateTime since, Pageable pageable);
+
+    Optional<Notification> findTopByUserOrderByIdDesc(User user);
 
 }
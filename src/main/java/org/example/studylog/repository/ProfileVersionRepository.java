@@ -0,0 +1,165 @@
+package org.example.studylog.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 공유 프로필(/main?code=) 조건부 요청용 사용자별 버전 스탬프
+// 버전은 profile_version 테이블에 저장되어 모든 서버에서 같은 ETag가 만들어짐
+// 프로필 화면에 보이는 데이터가 바뀌면 변경한 서버가 버전을 올리고, 다른 서버는 CacheInvalidationService로 로컬 스탬프만 제거
+@Slf4j
+@Repository
+public class ProfileVersionRepository {
+
+    private static final String FIND_SQL =
+            "SELECT version, updated_at FROM profile_version WHERE user_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO profile_version (user_id, version, updated_at) VALUES (?, 0, ?) ON CONFLICT (user_id) DO NOTHING";
+    private static final String BUMP_SQL =
+            "UPDATE profile_version SET version = version + 1, updated_at = ? WHERE user_id = ?";
+    private static final String BUMP_ALL_SQL =
+            "UPDATE profile_version SET version = version + 1, updated_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // DB에서 읽은 스탬프의 로컬 캐시 (304 응답 시 DB 조회를 피하기 위함)
+    private final Map<Long, Stamp> stampMap;
+    private final Map<String, Long> codeMap;
+
+    // 조회 도중 제거된 스탬프를 다시 캐시하지 않도록 제거할 때마다 증가 (this로 보호)
+    private long evictions;
+
+    public ProfileVersionRepository(JdbcTemplate jdbcTemplate,
+                                    @Value("${profile.version.max-size:50000}") int maxSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stampMap = lruMap(maxSize);
+        this.codeMap = lruMap(maxSize);
+    }
+
+    // 이미 알고 있는 코드면 DB 조회 없이 현재 스탬프 반환
+    public Optional<Stamp> findByCode(String code) {
+        synchronized (this) {
+            Long userId = codeMap.get(code);
+            if (userId == null) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(stampMap.get(userId));
+        }
+    }
+
+    // 코드와 사용자를 연결하고 현재 스탬프 반환 (응답 데이터를 조회하기 전에 호출)
+    public Stamp register(String code, Long userId) {
+        long evictionsAtStart;
+        synchronized (this) {
+            codeMap.put(code, userId);
+            Stamp cached = stampMap.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            evictionsAtStart = evictions;
+        }
+        Stamp stamp = load(userId);
+        synchronized (this) {
+            if (evictions == evictionsAtStart) {
+                stampMap.put(userId, stamp);
+            }
+        }
+        return stamp;
+    }
+
+    // 변경한 서버에서 호출 (DB 버전 증가 후 로컬 스탬프 제거)
+    public void bump(Long userId) {
+        jdbcTemplate.update(BUMP_SQL, now(), userId);
+        evict(userId);
+        log.debug("프로필 버전 증가: userId={}", userId);
+    }
+
+    public void bumpAll() {
+        jdbcTemplate.update(BUMP_ALL_SQL, now());
+        evictAll();
+        log.info("프로필 버전 전체 증가");
+    }
+
+    // 다른 서버에서 버전을 올린 경우 다음 조회에서 DB 값을 다시 읽도록 로컬 스탬프만 제거
+    public void evict(Long userId) {
+        synchronized (this) {
+            stampMap.remove(userId);
+            evictions++;
+        }
+    }
+
+    public void evictAll() {
+        synchronized (this) {
+            stampMap.clear();
+            evictions++;
+        }
+    }
+
+    // 처음 조회되는 사용자는 버전 0으로 생성 (동시에 생성해도 먼저 저장된 행을 읽음)
+    private Stamp load(Long userId) {
+        List<Stamp> found = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> toStamp(userId, rs), userId);
+        if (!found.isEmpty()) {
+            return found.get(0);
+        }
+        jdbcTemplate.update(INSERT_SQL, userId, now());
+        return jdbcTemplate.queryForObject(FIND_SQL, (rs, rowNum) -> toStamp(userId, rs), userId);
+    }
+
+    private Stamp toStamp(Long userId, ResultSet rs) throws SQLException {
+        return new Stamp(userId, rs.getLong("version"), rs.getTimestamp("updated_at").toInstant());
+    }
+
+    // Last-Modified 헤더는 초 단위이므로 맞춰서 저장
+    private static Timestamp now() {
+        return Timestamp.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private static <K, V> Map<K, V> lruMap(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public record Stamp(Long userId, long version, Instant lastModified) {
+
+        // 스트릭 등 월 단위 데이터는 월이 바뀌면 버전 변경 없이도 달라지므로 현재 월을 포함
+        // 팔로우 여부가 보는 사람마다 다르므로 조회자(oauthId)의 해시도 포함
+        public String toETag(YearMonth month, String viewer) {
+            String viewerHash = viewer == null ? "guest" : sha256Prefix(viewer);
+            return "\"" + month + "-" + userId + "-" + version + "-" + viewerHash + "\"";
+        }
+
+        // 충돌 가능성을 무시할 수 있도록 SHA-256 앞 16바이트 사용
+        private static String sha256Prefix(String value) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest, 0, 16);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+            }
+        }
+    }
+
+    public String toETag(Stamp stamp, String viewer) {
+        return stamp.toETag(YearMonth.now(), viewer);
+    }
+}
@@ -3,11 +3,77 @@ package org.example.studylog.repository;
 import org.example.studylog.entity.Streak;
 import org.example.studylog.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 public interface StreakRepository extends JpaRepository<Streak, Long> {
 
     // 사용자의 스트릭 정보 조회
     Optional<Streak> findByUser(User user);
-}
\ No newline at end of file
+
+    // 스트릭 재계산 대상 사용자 ID 상한
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM users", nativeQuery = true)
+    long findMaxUserId();
+
+    // user_id 구간 내 사용자의 스트릭을 기록 날짜 기준으로 재계산 (gaps-and-islands)
+    // 연속된 날짜는 (날짜 - 행 번호)가 같으므로 같은 그룹(연속 구간)으로 묶임
+    // 현재 스트릭은 오늘 또는 어제 끝나는 연속 구간의 길이
+    @Modifying
+    @Transactional
+    @Query(value = "WITH days AS ( " +
+            "    SELECT user_id, stat_date FROM user_daily_stat " +
+            "    WHERE record_count > 0 AND user_id BETWEEN :fromUserId AND :toUserId " +
+            "), islands AS ( " +
+            "    SELECT user_id, stat_date, " +
+            "           stat_date - CAST(ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY stat_date) AS INT) AS grp " +
+            "    FROM days " +
+            "), runs AS ( " +
+            "    SELECT user_id, MAX(stat_date) AS end_date, COUNT(*) AS length " +
+            "    FROM islands GROUP BY user_id, grp " +
+            "), summary AS ( " +
+            "    SELECT user_id, " +
+            "           MAX(length) AS max_streak, " +
+            "           MAX(end_date) AS last_record_date, " +
+            "           COALESCE(MAX(length) FILTER (WHERE end_date >= CAST(:today AS DATE) - 1), 0) AS current_streak " +
+            "    FROM runs GROUP BY user_id " +
+            ") " +
+            "INSERT INTO streak (user_id, current_streak, max_streak, last_record_date, create_date, update_date) " +
+            "SELECT user_id, current_streak, max_streak, last_record_date, now(), now() FROM summary " +
+            "ON CONFLICT (user_id) DO UPDATE SET " +
+            "    current_streak = EXCLUDED.current_streak, " +
+            "    max_streak = EXCLUDED.max_streak, " +
+            "    last_record_date = EXCLUDED.last_record_date, " +
+            "    update_date = now()",
+            nativeQuery = true)
+    int recomputeStreaks(@Param("fromUserId") long fromUserId,
+                         @Param("toUserId") long toUserId,
+                         @Param("today") LocalDate today);
+
+    // user_id 구간 내 기록이 하나도 남지 않은 사용자의 스트릭 초기화 (기록 삭제 반영)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE streak s SET current_streak = 0, max_streak = 0, last_record_date = NULL, update_date = now() " +
+            "WHERE s.user_id BETWEEN :fromUserId AND :toUserId " +
+            "AND (s.current_streak <> 0 OR s.max_streak <> 0) " +
+            "AND NOT EXISTS (SELECT 1 FROM user_daily_stat d " +
+            "                WHERE d.user_id = s.user_id AND d.record_count > 0)",
+            nativeQuery = true)
+    int resetStreaksWithoutRecords(@Param("fromUserId") long fromUserId,
+                                   @Param("toUserId") long toUserId);
+
+    // 마지막 기록일이 어제보다 이전인(끊긴) 스트릭을 batchSize개씩 초기화
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE streak SET current_streak = 0, update_date = now() " +
+            "WHERE id IN (SELECT id FROM streak " +
+            "             WHERE current_streak > 0 " +
+            "             AND (last_record_date IS NULL OR last_record_date < CAST(:today AS DATE) - 1) " +
+            "             ORDER BY id LIMIT :batchSize)",
+            nativeQuery = true)
+    int resetBrokenStreaks(@Param("today") LocalDate today, @Param("batchSize") int batchSize);
+}
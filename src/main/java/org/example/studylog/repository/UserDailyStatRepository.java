@@ -0,0 +1,72 @@
+package org.example.studylog.repository;
+
+import org.example.studylog.entity.UserDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserDailyStatRepository extends JpaRepository<UserDailyStat, Long> {
+
+    // 기간 내 기록이 있는 날짜별 기록 개수 조회 (스트릭 캘린더, 메인 페이지용)
+    @Query("SELECT s.statDate, s.recordCount FROM UserDailyStat s " +
+            "WHERE s.user.id = :userId " +
+            "AND s.statDate BETWEEN :from AND :to " +
+            "AND s.recordCount > 0")
+    List<Object[]> findDailyCounts(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    // 해당 날짜의 기록 수 + 1 (행이 없으면 생성)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO user_daily_stat (user_id, stat_date, record_count) " +
+            "VALUES (:userId, :statDate, 1) " +
+            "ON CONFLICT (user_id, stat_date) " +
+            "DO UPDATE SET record_count = user_daily_stat.record_count + 1",
+            nativeQuery = true)
+    int increment(@Param("userId") Long userId, @Param("statDate") LocalDate statDate);
+
+    // 해당 날짜의 기록 수 - 1 (음수 방지)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE user_daily_stat SET record_count = record_count - 1 " +
+            "WHERE user_id = :userId AND stat_date = :statDate AND record_count > 0",
+            nativeQuery = true)
+    int decrement(@Param("userId") Long userId, @Param("statDate") LocalDate statDate);
+
+    // 집계 테이블과 study_record 원본의 일자별 기록 수가 다른 행 조회 (user_id, stat_date, 집계값, 실제값)
+    @Query(value = "SELECT COALESCE(s.user_id, r.user_id), COALESCE(s.stat_date, r.stat_date), " +
+            "COALESCE(s.record_count, 0), COALESCE(r.record_count, 0) " +
+            "FROM (SELECT user_id, stat_date, record_count FROM user_daily_stat " +
+            "      WHERE stat_date BETWEEN :from AND :to) s " +
+            "FULL OUTER JOIN (SELECT user_id, CAST(create_date AS DATE) AS stat_date, COUNT(*) AS record_count " +
+            "      FROM study_record WHERE create_date >= :start AND create_date < :end " +
+            "      GROUP BY user_id, CAST(create_date AS DATE)) r " +
+            "ON s.user_id = r.user_id AND s.stat_date = r.stat_date " +
+            "WHERE COALESCE(s.record_count, 0) <> COALESCE(r.record_count, 0)",
+            nativeQuery = true)
+    List<Object[]> findMismatches(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // 해당 날짜의 기록 수를 실제 값으로 덮어쓰기 (정합성 복구용)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO user_daily_stat (user_id, stat_date, record_count) " +
+            "VALUES (:userId, :statDate, :recordCount) " +
+            "ON CONFLICT (user_id, stat_date) " +
+            "DO UPDATE SET record_count = EXCLUDED.record_count",
+            nativeQuery = true)
+    int overwrite(@Param("userId") Long userId,
+                  @Param("statDate") LocalDate statDate,
+                  @Param("recordCount") int recordCount);
+}
@@ -0,0 +1,90 @@
+package org.example.studylog.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.example.studylog.entity.user.QUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 랭킹, 친구 목록에 표시되는 사용자 정보(닉네임, 프로필 이미지, 코드) LRU 캐시
+// 프로필 변경/회원 탈퇴 시 evict (다른 서버에는 CacheInvalidationService로 전파)
+@Repository
+public class UserSummaryRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final Map<Long, UserSummary> summaryMap;
+
+    public UserSummaryRepository(JPAQueryFactory queryFactory,
+                                 @Value("${user.summary.cache.max-size:50000}") int maxSize) {
+        this.queryFactory = queryFactory;
+        this.summaryMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserSummary> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    // 캐시에 없는 사용자만 한 번에 조회해서 채움 (존재하지 않는 사용자는 결과에서 빠짐)
+    public Map<Long, UserSummary> findAllById(Collection<Long> userIds) {
+        Map<Long, UserSummary> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        synchronized (summaryMap) {
+            for (Long userId : userIds) {
+                UserSummary summary = summaryMap.get(userId);
+                if (summary != null) {
+                    result.put(userId, summary);
+                } else {
+                    missing.add(userId);
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<UserSummary> loaded = load(missing);
+            synchronized (summaryMap) {
+                loaded.forEach(summary -> summaryMap.put(summary.id(), summary));
+            }
+            loaded.forEach(summary -> result.put(summary.id(), summary));
+        }
+        return result;
+    }
+
+    public void evict(Long userId) {
+        synchronized (summaryMap) {
+            summaryMap.remove(userId);
+        }
+    }
+
+    public void evictAll() {
+        synchronized (summaryMap) {
+            summaryMap.clear();
+        }
+    }
+
+    private List<UserSummary> load(Collection<Long> userIds) {
+        QUser user = QUser.user;
+
+        return queryFactory
+                .select(Projections.constructor(
+                        UserSummary.class,
+                        user.id,
+                        user.nickname,
+                        user.profileImage,
+                        user.code
+                ))
+                .from(user)
+                .where(user.id.in(userIds))
+                .fetch();
+    }
+
+    public record UserSummary(Long id, String nickname, String profileImage, String code) {
+    }
+}
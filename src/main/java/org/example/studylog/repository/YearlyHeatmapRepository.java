@@ -0,0 +1,111 @@
+package org.example.studylog.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 사용자-연도별 일자 기록 수(하루 1개의 short)를 담아두는 LRU 캐시
+@Slf4j
+@Repository
+public class YearlyHeatmapRepository {
+
+    private static final int STAMP_STRIPES = 1024;
+
+    private final Map<HeatmapKey, short[]> heatmapMap;
+    // 사용자-연도 해시 구간별 변경 횟수와 DB에 쓰는 중인 변경 수 (heatmapMap으로 동기화)
+    private final long[] changeStamps = new long[STAMP_STRIPES];
+    private final int[] inFlight = new int[STAMP_STRIPES];
+
+    public YearlyHeatmapRepository(@Value("${streak.heatmap.cache.max-size:10000}") int maxSize) {
+        this.heatmapMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<HeatmapKey, short[]> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    // 캐시에 있으면 복사본 반환, 없으면 loader로 생성 후 저장
+    // 조회 도중 변경이 있었거나 DB에 쓰는 중인 변경이 있었으면 조회 결과에 그 변경이 들어갔는지 알 수 없으므로 저장하지 않음
+    public short[] getOrLoad(Long userId, int year, Supplier<short[]> loader) {
+        HeatmapKey key = new HeatmapKey(userId, year);
+        int stripe = stripeOf(key);
+        long stamp;
+        boolean settled;
+        synchronized (heatmapMap) {
+            short[] cached = heatmapMap.get(key);
+            if (cached != null) {
+                return cached.clone();
+            }
+            stamp = changeStamps[stripe];
+            settled = inFlight[stripe] == 0;
+        }
+
+        // DB 조회는 락 밖에서 수행
+        short[] loaded = loader.get();
+
+        synchronized (heatmapMap) {
+            short[] existing = heatmapMap.get(key);
+            if (existing != null) {
+                return existing.clone();
+            }
+            if (!settled || changeStamps[stripe] != stamp) {
+                log.debug("히트맵 조회 중 변경 발생, 캐시 저장 생략: userId={}, year={}", userId, year);
+                return loaded;
+            }
+            heatmapMap.put(key, loaded);
+            return loaded.clone();
+        }
+    }
+
+    // user_daily_stat에 쓰기 전에 호출하고, 쓴 뒤에 applyDelta(실패하거나 바뀐 행이 없으면 cancelChange)로 끝냄
+    public void beginChange(Long userId, LocalDate date) {
+        int stripe = stripeOf(new HeatmapKey(userId, date.getYear()));
+        synchronized (heatmapMap) {
+            changeStamps[stripe]++;
+            inFlight[stripe]++;
+        }
+    }
+
+    public void cancelChange(Long userId, LocalDate date) {
+        synchronized (heatmapMap) {
+            endChange(stripeOf(new HeatmapKey(userId, date.getYear())));
+        }
+    }
+
+    // 캐시된 연도가 있을 때만 해당 날짜의 기록 수를 delta만큼 갱신
+    public void applyDelta(Long userId, LocalDate date, int delta) {
+        HeatmapKey key = new HeatmapKey(userId, date.getYear());
+        int index = date.getDayOfYear() - 1;
+        synchronized (heatmapMap) {
+            endChange(stripeOf(key));
+            short[] counts = heatmapMap.get(key);
+            if (counts == null) {
+                return;
+            }
+            int updated = Math.max(0, Math.min(Short.MAX_VALUE, counts[index] + delta));
+            counts[index] = (short) updated;
+        }
+        log.debug("히트맵 캐시 갱신: userId={}, date={}, delta={}", userId, date, delta);
+    }
+
+    // heatmapMap 락 안에서 호출
+    private void endChange(int stripe) {
+        changeStamps[stripe]++;
+        if (inFlight[stripe] > 0) {
+            inFlight[stripe]--;
+        }
+    }
+
+    private int stripeOf(HeatmapKey key) {
+        return Math.floorMod(key.hashCode(), STAMP_STRIPES);
+    }
+
+    private record HeatmapKey(Long userId, int year) {
+    }
+}
@@ -6,6 +6,8 @@ import org.example.studylog.entity.user.User;
 import java.util.List;
 
 public interface FriendRepositoryCustom {
-    List<FriendResponseDTO> findFriendListByUser(User user);
-    List<FriendResponseDTO> findFriendListByNickname(User user, String query);
+    List<FriendResponseDTO> findFriendListByUser(User user, String lastNickname, Long lastId, int limit);
+    List<FriendResponseDTO> findFriendListByNickname(User user, String keyword,
+                                                     Boolean lastPrefixMatch, String lastNickname, Long lastId,
+                                                     int limit);
 }
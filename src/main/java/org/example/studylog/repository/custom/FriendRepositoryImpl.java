@@ -1,6 +1,10 @@
 package org.example.studylog.repository.custom;
 
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.example.studylog.dto.friend.FriendResponseDTO;
@@ -15,11 +19,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FriendRepositoryImpl implements FriendRepositoryCustom{
 
+    private static final char LIKE_ESCAPE = '\\';
+
     private final JPAQueryFactory queryFactory;
 
+    // 닉네임 순 친구 목록 (닉네임, ID), 커서가 있으면 그 다음부터
+    // 닉네임이 없는 사용자는 빈 문자열로 보고 정렬과 커서에 똑같이 적용 (커서 닉네임도 빈 문자열로 전달됨)
+    // ID 순 목록은 FriendGraphService에서 메모리로 처리
     @Override
-    public List<FriendResponseDTO> findFriendListByUser(User user) {
+    public List<FriendResponseDTO> findFriendListByUser(User user, String lastNickname, Long lastId, int limit) {
         QFriend friend = QFriend.friend1;
+        StringExpression nickname = friend.friend.nickname.coalesce("");
 
         return queryFactory
                 .select(Projections.constructor(FriendResponseDTO.class,
@@ -28,13 +38,36 @@ public class FriendRepositoryImpl implements FriendRepositoryCustom{
                         friend.friend.profileImage,
                         friend.friend.code))
                 .from(friend)
-                .where(friend.user.eq(user))
+                .where(friend.user.eq(user),
+                        afterNicknameCursor(friend, nickname, lastNickname, lastId))
+                .orderBy(nickname.asc(), friend.friend.id.asc())
+                .limit(limit)
                 .fetch();
     }
 
+    private BooleanExpression afterNicknameCursor(QFriend friend, StringExpression nickname,
+                                                  String lastNickname, Long lastId) {
+        if (lastNickname == null || lastId == null) {
+            return null;
+        }
+        return nickname.gt(lastNickname)
+                .or(nickname.eq(lastNickname).and(friend.friend.id.gt(lastId)));
+    }
+
+    // 닉네임에 keyword(소문자)가 포함된 친구 검색, keyword로 시작하는 닉네임을 먼저 반환
+    // 정렬: (접두 일치 여부, 닉네임, ID), 커서가 있으면 그 다음부터
     @Override
-    public List<FriendResponseDTO> findFriendListByNickname(User user, String query) {
+    public List<FriendResponseDTO> findFriendListByNickname(User user, String keyword,
+                                                            Boolean lastPrefixMatch, String lastNickname, Long lastId,
+                                                            int limit) {
         QFriend friend = QFriend.friend1;
+        String escaped = escapeLike(keyword);
+
+        // lower(nickname) LIKE는 trigram 인덱스(idx_users_nickname_trgm) 사용
+        StringExpression lowerNickname = friend.friend.nickname.lower();
+        NumberExpression<Integer> matchRank = new CaseBuilder()
+                .when(lowerNickname.like(escaped + "%", LIKE_ESCAPE)).then(0)
+                .otherwise(1);
 
         return queryFactory
                 .select(Projections.constructor(FriendResponseDTO.class,
@@ -44,7 +77,29 @@ public class FriendRepositoryImpl implements FriendRepositoryCustom{
                         friend.friend.code))
                 .from(friend)
                 .where(friend.user.eq(user),
-                        friend.friend.nickname.containsIgnoreCase(query))
+                        lowerNickname.like("%" + escaped + "%", LIKE_ESCAPE),
+                        afterSearchCursor(friend, matchRank, lastPrefixMatch, lastNickname, lastId))
+                .orderBy(matchRank.asc(), friend.friend.nickname.asc(), friend.friend.id.asc())
+                .limit(limit)
                 .fetch();
     }
+
+    private BooleanExpression afterSearchCursor(QFriend friend, NumberExpression<Integer> matchRank,
+                                                Boolean lastPrefixMatch, String lastNickname, Long lastId) {
+        if (lastPrefixMatch == null || lastNickname == null || lastId == null) {
+            return null;
+        }
+        int lastRank = lastPrefixMatch ? 0 : 1;
+        return matchRank.gt(lastRank)
+                .or(matchRank.eq(lastRank).and(
+                        friend.friend.nickname.gt(lastNickname)
+                                .or(friend.friend.nickname.eq(lastNickname).and(friend.friend.id.gt(lastId)))));
+    }
+
+    // 검색어의 %, _ 를 와일드카드가 아닌 문자로 취급
+    private String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
 }
@@ -0,0 +1,29 @@
+package org.example.studylog.repository.custom;
+
+import org.example.studylog.entity.notification.Notification;
+import org.example.studylog.entity.notification.NotificationType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationRepositoryCustom {
+    // 여러 알림을 한 번의 INSERT로 저장하고, 입력 순서대로 생성된 id를 반환
+    List<Long> insertAll(List<NewNotification> notifications);
+
+    // 최신순 알림 목록 (생성 시각, ID), 커서가 있으면 그 다음부터
+    List<Notification> findPageByUserId(Long userId, LocalDateTime lastCreatedAt, Long lastId, int limit);
+
+    // 안 읽은 알림을 한 번에 읽음 처리하고 처리한 개수 반환
+    int markAllRead(Long userId);
+
+    int countUnread(Long userId);
+
+    // 알림이 cap개를 넘는 사용자 (최대 limit명)
+    List<Long> findUserIdsOverCap(int cap, int limit);
+
+    // 최신 cap개를 제외한 오래된 알림을 최대 chunkSize개 삭제하고 삭제한 개수 반환
+    int deleteBeyondCap(Long userId, int cap, int chunkSize);
+
+    record NewNotification(Long userId, NotificationType type, String content) {
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.studylog.repository.custom;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.studylog.entity.notification.Notification;
+import org.example.studylog.entity.notification.QNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+
+    // 알림 저장과 안 읽은 알림 수 증가를 한 문장으로 처리
+    // RETURNING 순서는 입력 순서를 보장하지 않으므로 입력 순번(ordinality)별로 id를 먼저 발급하고 그 순서대로 반환
+    // (nextval을 포함한 CTE는 한 번만 계산되므로 저장한 id와 반환한 id가 같음)
+    private static final String INSERT_SQL =
+            "WITH src AS (SELECT nextval('notification_seq') AS id, t.user_id, t.type, t.content, t.ord " +
+            "FROM unnest(?::bigint[], ?::varchar[], ?::varchar[]) WITH ORDINALITY AS t(user_id, type, content, ord)), " +
+            "ins AS (INSERT INTO notification (id, user_id, type, content, created_at, is_read) " +
+            "SELECT id, user_id, type, content, ?, false FROM src RETURNING user_id), " +
+            "cnt AS (INSERT INTO notification_unread_count (user_id, unread_count) " +
+            "SELECT user_id, COUNT(*) FROM ins GROUP BY user_id " +
+            "ON CONFLICT (user_id) DO UPDATE SET unread_count = notification_unread_count.unread_count + EXCLUDED.unread_count) " +
+            "SELECT id FROM src ORDER BY ord";
+
+    private static final String MARK_ALL_READ_SQL =
+            "UPDATE notification SET is_read = true WHERE user_id = ? AND is_read = false";
+
+    // 읽음 처리 중 새로 저장된 알림의 증가분은 남도록 0으로 덮지 않고 처리한 개수만큼 뺌
+    private static final String SUBTRACT_UNREAD_SQL =
+            "UPDATE notification_unread_count SET unread_count = GREATEST(unread_count - ?, 0) WHERE user_id = ?";
+
+    private static final String COUNT_UNREAD_SQL =
+            "SELECT unread_count FROM notification_unread_count WHERE user_id = ?";
+
+    private static final String FIND_USERS_OVER_CAP_SQL =
+            "SELECT user_id FROM notification GROUP BY user_id HAVING COUNT(*) > ? LIMIT ?";
+
+    // 한 번에 chunk만큼만 지워서 오래 잠그지 않음, 지운 행 중 안 읽은 개수도 함께 반환
+    private static final String DELETE_BEYOND_CAP_SQL =
+            "WITH del AS (DELETE FROM notification WHERE (id, created_at) IN (" +
+            "SELECT id, created_at FROM notification WHERE user_id = ? " +
+            "ORDER BY created_at DESC, id DESC OFFSET ? LIMIT ?) RETURNING is_read) " +
+            "SELECT COUNT(*) AS deleted, COUNT(*) FILTER (WHERE NOT is_read) AS unread FROM del";
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    // User 엔티티를 조회하지 않고 user_id로 바로 저장, 건수와 관계없이 같은 SQL (배열 파라미터 3개)
+    @Override
+    public List<Long> insertAll(List<NewNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Long[] userIds = new Long[notifications.size()];
+        String[] types = new String[notifications.size()];
+        String[] contents = new String[notifications.size()];
+        for (int i = 0; i < notifications.size(); i++) {
+            NewNotification notification = notifications.get(i);
+            userIds[i] = notification.userId();
+            types[i] = notification.type().name();
+            contents[i] = notification.content();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.query(INSERT_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", userIds));
+            ps.setArray(2, connection.createArrayOf("varchar", types));
+            ps.setArray(3, connection.createArrayOf("varchar", contents));
+            ps.setTimestamp(4, now);
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    @Override
+    public List<Notification> findPageByUserId(Long userId, LocalDateTime lastCreatedAt, Long lastId, int limit) {
+        QNotification notification = QNotification.notification;
+
+        return queryFactory
+                .selectFrom(notification)
+                .where(notification.user.id.eq(userId),
+                        beforeCursor(notification, lastCreatedAt, lastId))
+                .orderBy(notification.createdAt.desc(), notification.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression beforeCursor(QNotification notification, LocalDateTime lastCreatedAt, Long lastId) {
+        if (lastCreatedAt == null || lastId == null) {
+            return null;
+        }
+        return notification.createdAt.lt(lastCreatedAt)
+                .or(notification.createdAt.eq(lastCreatedAt).and(notification.id.lt(lastId)));
+    }
+
+    // 호출하는 쪽 트랜잭션 안에서 실행
+    @Override
+    public int markAllRead(Long userId) {
+        int updated = jdbcTemplate.update(MARK_ALL_READ_SQL, userId);
+        if (updated > 0) {
+            jdbcTemplate.update(SUBTRACT_UNREAD_SQL, updated, userId);
+        }
+        return updated;
+    }
+
+    @Override
+    public List<Long> findUserIdsOverCap(int cap, int limit) {
+        return jdbcTemplate.queryForList(FIND_USERS_OVER_CAP_SQL, Long.class, cap, limit);
+    }
+
+    @Override
+    @Transactional
+    public int deleteBeyondCap(Long userId, int cap, int chunkSize) {
+        int[] result = jdbcTemplate.queryForObject(DELETE_BEYOND_CAP_SQL,
+                (rs, rowNum) -> new int[]{rs.getInt("deleted"), rs.getInt("unread")},
+                userId, cap, chunkSize);
+        if (result[1] > 0) {
+            jdbcTemplate.update(SUBTRACT_UNREAD_SQL, result[1], userId);
+        }
+        return result[0];
+    }
+
+    @Override
+    public int countUnread(Long userId) {
+        List<Integer> counts = jdbcTemplate.queryForList(COUNT_UNREAD_SQL, Integer.class, userId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+}
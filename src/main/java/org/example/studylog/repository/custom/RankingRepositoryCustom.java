@@ -1,11 +1,18 @@
 package org.example.studylog.repository.custom;
 
 import org.example.studylog.dto.RankingResponseDTO;
+import org.example.studylog.repository.MonthlyStatDeltaBuffer.StatKey;
 
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface RankingRepositoryCustom {
     List<RankingResponseDTO> findFriendRankings(int year, int month, List<Long> userIds);
+    Map<Long, Integer> findMonthlyCounts(int year, int month);
+    Optional<YearMonth> findFirstMonth();
     void incrementOrInsert(Long userId, int year, int month);
     void decrement(Long userId, int year, int month);
+    int applyDeltas(Map<StatKey, Integer> deltas);
 }
@@ -1,25 +1,51 @@
 package org.example.studylog.repository.custom;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.studylog.dto.RankingResponseDTO;
 import org.example.studylog.entity.QUserMonthlyStat;
-import org.example.studylog.entity.UserMonthlyStat;
 import org.example.studylog.entity.user.QUser;
-import org.example.studylog.entity.user.User;
+import org.example.studylog.repository.MonthlyStatDeltaBuffer.StatKey;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class RankingRepositoryImpl implements RankingRepositoryCustom{
 
+    private static final String UPSERT_SQL =
+            "INSERT INTO user_monthly_stat (user_id, year, month, record_count) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT ON CONSTRAINT uq_user_monthly_stat " +
+            "DO UPDATE SET record_count = user_monthly_stat.record_count + EXCLUDED.record_count";
+
+    // 감소분은 기존 decrement와 같이 행이 있을 때만 반영하고 0 아래로 내리지 않음
+    private static final String SUBTRACT_SQL =
+            "UPDATE user_monthly_stat SET record_count = GREATEST(record_count + ?, 0) " +
+            "WHERE user_id = ? AND year = ? AND month = ?";
+
+    private static final Comparator<StatKey> STAT_KEY_ORDER = Comparator.comparing(StatKey::userId)
+            .thenComparingInt(StatKey::year)
+            .thenComparingInt(StatKey::month);
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<RankingResponseDTO> findFriendRankings(
@@ -51,41 +77,51 @@ public class RankingRepositoryImpl implements RankingRepositoryCustom{
                 .fetch();
     }
 
+    // 랭킹 보드 적재용: 해당 월 전체 사용자의 기록 수
     @Override
-    @Transactional
-    public void incrementOrInsert(Long userId, int year, int month) {
+    public Map<Long, Integer> findMonthlyCounts(int year, int month) {
         QUserMonthlyStat stat = QUserMonthlyStat.userMonthlyStat;
 
-        // 이미 존재하는지 확인
-        UserMonthlyStat existing = queryFactory
-                .selectFrom(stat)
+        List<Tuple> rows = queryFactory
+                .select(stat.user.id, stat.recordCount)
+                .from(stat)
                 .where(
-                        stat.user.id.eq(userId),
                         stat.year.eq(year),
                         stat.month.eq(month)
                 )
-                .fetchOne();
-
-        if (existing != null) {
-            //있으면 recordCount + 1
-            queryFactory.update(stat)
-                    .set(stat.recordCount, stat.recordCount.add(1))
-                    .where(stat.id.eq(existing.getId()))
-                    .execute();
-        } else {
-            // 없으면 새로 insert
-            UserMonthlyStat newStat = UserMonthlyStat.builder()
-                    .user(User.builder().id(userId).build()) // FK만 세팅
-                    .year(year)
-                    .month(month)
-                    .recordCount(1)
-                    .build();
-
-            queryFactory.insert(stat)
-                    .columns(stat.user, stat.year, stat.month, stat.recordCount)
-                    .values(newStat.getUser(), newStat.getYear(), newStat.getMonth(), newStat.getRecordCount())
-                    .execute();
+                .fetch();
+
+        Map<Long, Integer> counts = new HashMap<>(rows.size() * 2);
+        rows.forEach(row -> counts.put(row.get(stat.user.id), row.get(stat.recordCount)));
+        return counts;
+    }
+
+    // 집계 행이 있는 가장 이른 월 (랭킹 조회 기간 검증용)
+    @Override
+    public Optional<YearMonth> findFirstMonth() {
+        QUserMonthlyStat stat = QUserMonthlyStat.userMonthlyStat;
+
+        Tuple first = queryFactory
+                .select(stat.year, stat.month)
+                .from(stat)
+                .orderBy(stat.year.asc(), stat.month.asc())
+                .fetchFirst();
+        if (first == null) {
+            return Optional.empty();
         }
+        return Optional.of(YearMonth.of(first.get(stat.year), first.get(stat.month)));
+    }
+
+    // 행이 없으면 1로 생성, 있으면 + 1 (동시에 처음 기록해도 유니크 제약 충돌 없이 한 번에 처리)
+    @Override
+    @Transactional
+    public void incrementOrInsert(Long userId, int year, int month) {
+        entityManager.createNativeQuery(UPSERT_SQL)
+                .setParameter(1, userId)
+                .setParameter(2, year)
+                .setParameter(3, month)
+                .setParameter(4, 1)
+                .executeUpdate();
     }
 
     @Override
@@ -110,4 +146,36 @@ public class RankingRepositoryImpl implements RankingRepositoryCustom{
                     userId, year, month);
         }
     }
+
+    // 쓰기 지연 버퍼의 변경분을 증가/감소로 나눠 배치로 반영, 반영되지 않은(행이 없던) 감소분 수 반환
+    @Override
+    @Transactional
+    public int applyDeltas(Map<StatKey, Integer> deltas) {
+        List<Object[]> increments = new ArrayList<>();
+        List<Object[]> decrements = new ArrayList<>();
+        // 여러 서버가 동시에 반영할 때 행 잠금 순서가 엇갈려 교착 상태가 되지 않도록 (user_id, year, month) 순으로 정렬
+        Map<StatKey, Integer> sorted = new TreeMap<>(STAT_KEY_ORDER);
+        sorted.putAll(deltas);
+        sorted.forEach((key, delta) -> {
+            if (delta > 0) {
+                increments.add(new Object[]{key.userId(), key.year(), key.month(), delta});
+            } else if (delta < 0) {
+                decrements.add(new Object[]{delta, key.userId(), key.year(), key.month()});
+            }
+        });
+
+        if (!increments.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, increments);
+        }
+
+        int missing = 0;
+        if (!decrements.isEmpty()) {
+            for (int updated : jdbcTemplate.batchUpdate(SUBTRACT_SQL, decrements)) {
+                if (updated == 0) {
+                    missing++;
+                }
+            }
+        }
+        return missing;
+    }
 }
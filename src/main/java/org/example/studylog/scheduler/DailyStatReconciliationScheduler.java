@@ -0,0 +1,37 @@
+package org.example.studylog.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.service.DailyStatReconciliationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatReconciliationScheduler {
+
+    private final DailyStatReconciliationService reconciliationService;
+
+    // 검사할 기간(오늘 포함 최근 N일)
+    @Value("${stat.daily.reconcile.days:7}")
+    private int days;
+
+    // 불일치 발견 시 자동 복구 여부
+    @Value("${stat.daily.reconcile.repair:true}")
+    private boolean repair;
+
+    // 매일 새벽 4시에 최근 기록의 일자별 집계 정합성 검사
+    @Scheduled(cron = "${stat.daily.reconcile.cron:0 0 4 * * *}")
+    public void reconcileRecentDays() {
+        LocalDate today = LocalDate.now();
+        try {
+            reconciliationService.reconcile(today.minusDays(days - 1L), today, repair);
+        } catch (Exception e) {
+            log.error("일자별 집계 정합성 검사 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.studylog.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.example.studylog.service.MonthlyStatWriter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MonthlyStatFlushScheduler {
+
+    private final MonthlyStatWriter monthlyStatWriter;
+
+    // 쓰기 지연 모드일 때 버퍼에 모인 월별 기록 수 변경분을 주기적으로 반영 (실패 시 writer에서 다시 버퍼에 넣음)
+    @Scheduled(fixedDelayString = "${ranking.stat.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        monthlyStatWriter.flush();
+    }
+}
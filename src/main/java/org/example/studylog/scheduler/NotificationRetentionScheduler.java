@@ -0,0 +1,43 @@
+package org.example.studylog.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.service.NotificationRetentionService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionScheduler {
+
+    private final NotificationRetentionService notificationRetentionService;
+
+    // 매일 새벽 파티션 생성, 만료 파티션 정리, 사용자별 개수 제한 정리
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public void run() {
+        ensurePartitions();
+        try {
+            notificationRetentionService.dropExpiredPartitions();
+        } catch (Exception e) {
+            log.error("알림 파티션 정리 중 오류 발생", e);
+        }
+        try {
+            notificationRetentionService.compact();
+        } catch (Exception e) {
+            log.error("사용자별 알림 정리 중 오류 발생", e);
+        }
+    }
+
+    // 예약 시각에 서버가 내려가 있었던 경우를 위해 기동 시 파티션 확인
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensurePartitions() {
+        try {
+            notificationRetentionService.ensurePartitions();
+        } catch (Exception e) {
+            log.error("알림 파티션 생성 중 오류 발생", e);
+        }
+    }
+}
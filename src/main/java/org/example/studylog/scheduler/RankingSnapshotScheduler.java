@@ -0,0 +1,59 @@
+package org.example.studylog.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.service.MonthlyStatWriter;
+import org.example.studylog.service.RankingSnapshotService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingSnapshotScheduler {
+
+    private final RankingSnapshotService rankingSnapshotService;
+    private final MonthlyStatWriter monthlyStatWriter;
+
+    // 매월 1일 지난 달 랭킹 마감
+    @Scheduled(cron = "${ranking.snapshot.cron:0 10 0 1 * *}")
+    public void closePreviousMonth() {
+        closeMonth(YearMonth.now().minusMonths(1));
+    }
+
+    // 마감 시각에 서버가 내려가 있었던 경우와 스냅샷 도입 전의 지난 월을 위해 기동 시 마감되지 않은 지난 월을 모두 마감
+    // (마감되지 않은 월은 조회할 때마다 전체 월 보드를 적재해 이번 달 보드를 LRU에서 밀어냄)
+    @EventListener(ApplicationReadyEvent.class)
+    public void closeMissedMonths() {
+        YearMonth current = YearMonth.now();
+        try {
+            Set<YearMonth> months = new LinkedHashSet<>(rankingSnapshotService.findUnclosedMonthsBefore(current));
+            // 지난 달은 집계 행이 없어도 마감
+            if (!rankingSnapshotService.isClosed(current.minusMonths(1))) {
+                months.add(current.minusMonths(1));
+            }
+            if (!months.isEmpty()) {
+                log.info("마감되지 않은 지난 월 랭킹 마감: {}", months);
+            }
+            months.forEach(this::closeMonth);
+        } catch (Exception e) {
+            log.error("기동 시 월 랭킹 마감 확인 중 오류 발생", e);
+        }
+    }
+
+    private void closeMonth(YearMonth month) {
+        try {
+            // 쓰기 지연 중인 변경분까지 반영한 뒤 복사
+            monthlyStatWriter.flush();
+            rankingSnapshotService.closeMonth(month);
+        } catch (Exception e) {
+            log.error("월 랭킹 마감 중 오류 발생: month={}", month, e);
+        }
+    }
+}
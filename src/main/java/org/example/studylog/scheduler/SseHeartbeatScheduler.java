@@ -0,0 +1,19 @@
+package org.example.studylog.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.example.studylog.service.notification.SseHeartbeatService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SseHeartbeatScheduler {
+
+    private final SseHeartbeatService sseHeartbeatService;
+
+    // tick마다 heartbeat wheel을 한 칸씩 진행
+    @Scheduled(fixedRateString = "${notification.heartbeat.tick-ms:1000}")
+    public void tick() {
+        sseHeartbeatService.tick();
+    }
+}
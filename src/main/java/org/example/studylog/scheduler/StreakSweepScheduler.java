@@ -0,0 +1,35 @@
+package org.example.studylog.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.service.StreakService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreakSweepScheduler {
+
+    private final StreakService streakService;
+
+    // 매일 자정 직후 어제 기록하지 않은 사용자의 현재 스트릭 초기화
+    @Scheduled(cron = "${streak.sweep.cron:0 5 0 * * *}")
+    public void sweepBrokenStreaks() {
+        try {
+            streakService.sweepBrokenStreaks();
+        } catch (Exception e) {
+            log.error("끊긴 스트릭 초기화 중 오류 발생", e);
+        }
+    }
+
+    // 매주 전체 사용자의 스트릭을 기록 기준으로 재계산 (삭제 등으로 어긋난 값 보정)
+    @Scheduled(cron = "${streak.recompute.cron:0 30 3 * * SUN}")
+    public void recomputeAllStreaks() {
+        try {
+            streakService.recomputeAllStreaks();
+        } catch (Exception e) {
+            log.error("전체 스트릭 재계산 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.studylog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.dto.notification.BroadcastDTO;
+import org.example.studylog.exception.BusinessException;
+import org.example.studylog.exception.ErrorCode;
+import org.example.studylog.service.notification.BroadcastMessage;
+import org.example.studylog.service.notification.NotificationBus;
+import org.example.studylog.service.notification.SseBroadcaster;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 점검 안내 등 접속 중인 모든 사용자에게 보내는 공지 (DB에 저장하지 않음)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BroadcastService {
+
+    private static final String DEFAULT_EVENT = "announcement";
+
+    private final NotificationBus notificationBus;
+    private final SseBroadcaster sseBroadcaster;
+
+    // 모든 서버로 전달하고 공지 id 반환 (전송은 각 서버에서 비동기로 진행)
+    public String broadcast(BroadcastDTO.RequestDTO request) {
+        String event = request.getEvent() == null ? DEFAULT_EVENT : request.getEvent();
+        BroadcastMessage message = new BroadcastMessage(
+                UUID.randomUUID().toString(), event, request.getContent(), LocalDateTime.now());
+        notificationBus.broadcast(message);
+        log.info("공지 발행: broadcastId={}, event={}", message.id(), message.event());
+        return message.id();
+    }
+
+    // 이 서버에서의 전송 결과
+    public BroadcastDTO.ResponseDTO getStats(String broadcastId) {
+        SseBroadcaster.Stats stats = sseBroadcaster.findStats(broadcastId);
+        if (stats == null) {
+            throw new BusinessException(ErrorCode.BROADCAST_NOT_FOUND);
+        }
+        return BroadcastDTO.ResponseDTO.builder()
+                .broadcastId(stats.getBroadcastId())
+                .targeted(stats.getTargeted())
+                .sent(stats.getSent())
+                .dropped(stats.getDropped())
+                .build();
+    }
+}
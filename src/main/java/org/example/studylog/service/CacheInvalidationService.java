@@ -0,0 +1,118 @@
+package org.example.studylog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.repository.FriendGraphRepository;
+import org.example.studylog.repository.GlobalLeaderboardRepository;
+import org.example.studylog.repository.LeaderboardRepository;
+import org.example.studylog.repository.MainPageCacheRepository;
+import org.example.studylog.repository.ProfileVersionRepository;
+import org.example.studylog.repository.UserSummaryRepository;
+import org.example.studylog.service.notification.CacheInvalidationMessage;
+import org.example.studylog.service.notification.NotificationBus;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static org.example.studylog.service.notification.CacheInvalidationMessage.CacheType.FRIEND_GRAPH;
+import static org.example.studylog.service.notification.CacheInvalidationMessage.CacheType.LEADERBOARD;
+import static org.example.studylog.service.notification.CacheInvalidationMessage.CacheType.MAIN_PAGE;
+import static org.example.studylog.service.notification.CacheInvalidationMessage.CacheType.USER_SUMMARY;
+
+// 서버마다 가지고 있는 로컬 캐시의 무효화
+// 이 서버의 캐시는 바로 무효화하고, 다른 서버에는 NotificationBus로 전파
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationService {
+
+    private final MainPageCacheRepository mainPageCacheRepository;
+    private final ProfileVersionRepository profileVersionRepository;
+    private final FriendGraphRepository friendGraphRepository;
+    private final UserSummaryRepository userSummaryRepository;
+    private final FriendSuggestionService friendSuggestionService;
+    private final LeaderboardRepository leaderboardRepository;
+    private final GlobalLeaderboardRepository globalLeaderboardRepository;
+    private final NotificationBus notificationBus;
+
+    // 메인 페이지 캐시 무효화 + 공유 프로필 버전 증가 (버전은 DB에 있으므로 이 서버에서만 올리고 다른 서버는 스탬프만 제거)
+    public void evictMainPages(List<Long> userIds) {
+        userIds.forEach(profileVersionRepository::bump);
+        evictMainPagesLocally(userIds);
+        notificationBus.invalidate(MAIN_PAGE, userIds);
+    }
+
+    public void evictAllMainPages() {
+        profileVersionRepository.bumpAll();
+        evictMainPagesLocally(List.of());
+        notificationBus.invalidate(MAIN_PAGE, List.of());
+    }
+
+    // 친구 관계 변경은 이 서버에서는 FriendGraphListener가 증분 반영하고, 다른 서버에서는 두 사용자의 친구 목록을 제거
+    public void propagateFriendChange(Long userId, Long friendId) {
+        notificationBus.invalidate(FRIEND_GRAPH, List.of(userId, friendId));
+    }
+
+    // 랭킹, 친구 목록에 표시되는 닉네임/프로필 이미지
+    public void evictUserSummary(Long userId) {
+        userSummaryRepository.evict(userId);
+        notificationBus.invalidate(USER_SUMMARY, List.of(userId));
+    }
+
+    // user_monthly_stat 변경은 이 서버에서는 기록 이벤트로 증분 반영하고, 다른 서버에서는 월별 랭킹 보드를 제거하고 전체 랭킹을 다시 구성
+    // DB에 반영된 뒤에 호출해야 다른 서버가 다시 읽을 때 변경이 포함됨
+    public void propagateLeaderboardChange(List<Long> userIds) {
+        notificationBus.invalidate(LEADERBOARD, userIds);
+    }
+
+    // 다른 서버에서 전파된 무효화 (알림 채널 재연결 시에는 전체 무효화로 들어옴)
+    @EventListener
+    public void handleRemoteInvalidation(CacheInvalidationMessage message) {
+        log.debug("캐시 무효화 수신: cache={}, count={}", message.type(), message.userIds().size());
+        switch (message.type()) {
+            case MAIN_PAGE -> evictMainPagesLocally(message.userIds());
+            case FRIEND_GRAPH -> evictFriendGraphsLocally(message.userIds());
+            case USER_SUMMARY -> evictUserSummariesLocally(message.userIds());
+            case LEADERBOARD -> evictLeaderboardsLocally();
+        }
+    }
+
+    // 보드는 월 단위로 적재되므로 대상 사용자와 관계없이 전체 제거
+    private void evictLeaderboardsLocally() {
+        leaderboardRepository.evictAll();
+        globalLeaderboardRepository.markStale();
+    }
+
+    // 비어 있으면 전체 무효화
+    private void evictMainPagesLocally(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            mainPageCacheRepository.invalidateAll();
+            profileVersionRepository.evictAll();
+            return;
+        }
+        for (Long userId : userIds) {
+            mainPageCacheRepository.invalidate(userId);
+            profileVersionRepository.evict(userId);
+        }
+    }
+
+    // 친구 목록을 먼저 제거해야 추천 무효화가 변경 후의 친구 목록을 기준으로 주변 사용자를 찾음
+    private void evictFriendGraphsLocally(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            friendGraphRepository.evictAll();
+            friendSuggestionService.invalidateAll();
+            return;
+        }
+        userIds.forEach(friendGraphRepository::evict);
+        friendSuggestionService.invalidateAround(userIds);
+    }
+
+    private void evictUserSummariesLocally(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            userSummaryRepository.evictAll();
+            return;
+        }
+        userIds.forEach(userSummaryRepository::evict);
+    }
+}
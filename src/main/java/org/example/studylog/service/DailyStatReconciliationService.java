@@ -0,0 +1,51 @@
+package org.example.studylog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.repository.UserDailyStatRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyStatReconciliationService {
+
+    private final UserDailyStatRepository userDailyStatRepository;
+
+    // 기간(from ~ to) 내 user_daily_stat 값과 study_record 원본 집계를 비교, repair가 true면 실제 값으로 덮어씀
+    @Transactional
+    public int reconcile(LocalDate from, LocalDate to, boolean repair) {
+        log.info("일자별 집계 정합성 검사 시작: {} ~ {}, 복구={}", from, to, repair);
+
+        List<Object[]> mismatches = userDailyStatRepository.findMismatches(
+                from, to, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+
+        for (Object[] row : mismatches) {
+            Long userId = ((Number) row[0]).longValue();
+            LocalDate statDate = toLocalDate(row[1]);
+            int statCount = ((Number) row[2]).intValue();
+            int actualCount = ((Number) row[3]).intValue();
+
+            log.warn("일자별 집계 불일치: userId={}, date={}, 집계값={}, 실제값={}",
+                    userId, statDate, statCount, actualCount);
+
+            if (repair) {
+                userDailyStatRepository.overwrite(userId, statDate, actualCount);
+            }
+        }
+
+        log.info("일자별 집계 정합성 검사 완료: {} ~ {}, 불일치={}건", from, to, mismatches.size());
+        return mismatches.size();
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+}
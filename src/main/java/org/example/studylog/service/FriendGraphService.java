@@ -0,0 +1,99 @@
+package org.example.studylog.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.studylog.dto.friend.FriendPageResponseDTO;
+import org.example.studylog.dto.friend.FriendResponseDTO;
+import org.example.studylog.repository.FriendGraphRepository;
+import org.example.studylog.repository.FriendRepository;
+import org.example.studylog.repository.UserSummaryRepository;
+import org.example.studylog.repository.UserSummaryRepository.UserSummary;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+// 친구 관계 조회 (친구 여부, 친구 수, 친구 ID 목록)를 메모리에서 처리
+// 캐시에 없는 사용자는 friend 테이블에서 한 번 읽어 저장
+@Service
+@RequiredArgsConstructor
+public class FriendGraphService {
+
+    private final FriendGraphRepository friendGraphRepository;
+    private final FriendRepository friendRepository;
+    private final UserSummaryRepository userSummaryRepository;
+
+    // 오름차순 정렬된 친구 ID 배열 (공유 배열이므로 수정 금지)
+    public long[] getFriendIds(Long userId) {
+        long[] cached = friendGraphRepository.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = friendGraphRepository.currentStamp(userId);
+        List<Long> ids = friendRepository.findFriendIdsByUserId(userId);
+        long[] friendIds = new long[ids.size()];
+        for (int i = 0; i < friendIds.length; i++) {
+            friendIds[i] = ids.get(i);
+        }
+        Arrays.sort(friendIds);
+
+        friendGraphRepository.save(userId, friendIds, stamp);
+        return friendIds;
+    }
+
+    public boolean isFriend(Long userId, Long friendId) {
+        return Arrays.binarySearch(getFriendIds(userId), friendId) >= 0;
+    }
+
+    public int countFriends(Long userId) {
+        return getFriendIds(userId).length;
+    }
+
+    // 친구 ID 순 친구 목록 한 페이지 (lastId 다음부터 size개, 사용자 정보는 캐시에서)
+    public FriendPageResponseDTO getFriendPage(Long userId, Long lastId, int size) {
+        long[] friendIds = getFriendIds(userId);
+
+        int from = 0;
+        if (lastId != null) {
+            int index = Arrays.binarySearch(friendIds, lastId);
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+        int to = Math.min(friendIds.length, from + size);
+
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ids.add(friendIds[i]);
+        }
+        Map<Long, UserSummary> summaries = userSummaryRepository.findAllById(ids);
+
+        List<FriendResponseDTO> friends = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            UserSummary summary = summaries.get(id);
+            if (summary != null) {
+                friends.add(new FriendResponseDTO(summary.id(), summary.nickname(),
+                        summary.profileImage(), summary.code()));
+            }
+        }
+
+        boolean hasMore = to < friendIds.length;
+        return FriendPageResponseDTO.builder()
+                .friends(friends)
+                .totalCount(friendIds.length)
+                .hasMore(hasMore)
+                .nextId(hasMore && to > from ? friendIds[to - 1] : null)
+                .build();
+    }
+
+    // 커밋된 친구 추가/삭제를 캐시에 반영 (양방향)
+    public void applyAdded(Long userId, Long friendId) {
+        friendGraphRepository.addEdge(userId, friendId);
+        friendGraphRepository.addEdge(friendId, userId);
+    }
+
+    public void applyDeleted(Long userId, Long friendId) {
+        friendGraphRepository.removeEdge(userId, friendId);
+        friendGraphRepository.removeEdge(friendId, userId);
+    }
+}
@@ -3,29 +3,43 @@ package org.example.studylog.service;
 import lombok.RequiredArgsConstructor;
 import org.example.studylog.dto.notification.NotificationDTO;
 import org.example.studylog.dto.friend.FriendNameDTO;
+import org.example.studylog.dto.friend.FriendPageResponseDTO;
 import org.example.studylog.dto.friend.FriendRequestDTO;
 import org.example.studylog.dto.friend.FriendResponseDTO;
-import org.example.studylog.entity.Friend;
+import org.example.studylog.dto.friend.FriendSearchResponseDTO;
 import org.example.studylog.entity.notification.NotificationType;
 import org.example.studylog.entity.user.User;
+import org.example.studylog.event.FriendChangedEvent;
 import org.example.studylog.exception.BusinessException;
 import org.example.studylog.exception.ErrorCode;
 import org.example.studylog.repository.FriendRepository;
 import org.example.studylog.repository.UserRepository;
 import org.example.studylog.repository.custom.FriendRepositoryImpl;
+import org.example.studylog.service.notification.NotificationCoalescer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class FriendService {
 
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+    // 알림 합치기용 친구 관계 상태
+    private static final int NOT_FRIEND = 0;
+    private static final int FRIEND = 1;
+
     private final UserRepository userRepository;
     private final FriendRepository friendRepository;
     private final FriendRepositoryImpl friendRepositoryImpl;
-    private final NotificationService notificationService;
+    private final FriendGraphService friendGraphService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public FriendNameDTO findUserByCode(String oauthId, String code) {
@@ -42,20 +56,62 @@ public class FriendService {
                 .build();
     }
 
+    // sort: id(기본) 또는 nickname
     @Transactional(readOnly = true)
-    public List<FriendResponseDTO> getFriendList(String oauthId) {
+    public FriendPageResponseDTO getFriendList(String oauthId, String sort, String lastNickname, Long lastId, int size) {
         // 로그인한 유저 찾기
         User user = userRepository.findByOauthId(oauthId);
 
-        return friendRepositoryImpl.findFriendListByUser(user);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        if (!"nickname".equalsIgnoreCase(sort)) {
+            return friendGraphService.getFriendPage(user.getId(), lastId, pageSize);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<FriendResponseDTO> friends =
+                friendRepositoryImpl.findFriendListByUser(user, lastNickname, lastId, pageSize + 1);
+        boolean hasMore = friends.size() > pageSize;
+        if (hasMore) {
+            friends = friends.subList(0, pageSize);
+        }
+
+        FriendResponseDTO last = hasMore ? friends.get(friends.size() - 1) : null;
+        return FriendPageResponseDTO.builder()
+                .friends(friends)
+                .totalCount(friendGraphService.countFriends(user.getId()))
+                .hasMore(hasMore)
+                // 닉네임이 없는 사용자도 커서가 끊기지 않도록 정렬 기준과 같은 빈 문자열로 전달
+                .nextNickname(last != null ? Objects.requireNonNullElse(last.getNickname(), "") : null)
+                .nextId(last != null ? last.getId() : null)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public List<FriendResponseDTO> getFriendByQuery(String oauthId, String query) {
+    public FriendSearchResponseDTO getFriendByQuery(String oauthId, String query,
+                                                    Boolean lastPrefixMatch, String lastNickname, Long lastId,
+                                                    int size) {
         // 로그인한 유저 찾기
         User user = userRepository.findByOauthId(oauthId);
 
-        return friendRepositoryImpl.findFriendListByNickname(user, query);
+        String keyword = query.trim().toLowerCase(Locale.ROOT);
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<FriendResponseDTO> friends = friendRepositoryImpl.findFriendListByNickname(
+                user, keyword, lastPrefixMatch, lastNickname, lastId, pageSize + 1);
+        boolean hasMore = friends.size() > pageSize;
+        if (hasMore) {
+            friends = friends.subList(0, pageSize);
+        }
+
+        FriendResponseDTO last = hasMore ? friends.get(friends.size() - 1) : null;
+        return FriendSearchResponseDTO.builder()
+                .friends(friends)
+                .hasMore(hasMore)
+                .nextPrefixMatch(last != null ? last.getNickname().toLowerCase(Locale.ROOT).startsWith(keyword) : null)
+                .nextNickname(last != null ? last.getNickname() : null)
+                .nextId(last != null ? last.getId() : null)
+                .build();
     }
 
     @Transactional
@@ -66,27 +122,16 @@ public class FriendService {
         User friend = userRepository.findByCode(request.getCode())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_CODE_NOT_FOUND));
 
-        // 이미 친구인지 확인
-        boolean alreadyAdded = friendRepository.existsByUserAndFriend(user, friend);
-        if(alreadyAdded){
+        // 양방향 관계 한 번에 추가, 추가된 행이 없으면 이미 친구
+        int inserted = friendRepository.insertBothDirections(user.getId(), friend.getId());
+        if(inserted == 0){
             throw new BusinessException(ErrorCode.ALREADY_FRIEND);
         }
 
-        // 단방향 관계 2개 설정 (양방향)
-        Friend toFriend = Friend.builder()
-                .user(user)
-                .friend(friend)
-                .build();
-        Friend fromFriend = Friend.builder()
-                .user(friend)
-                .friend(user)
-                .build();
-
-        friendRepository.save(toFriend);
-        friendRepository.save(fromFriend);
+        eventPublisher.publishEvent(new FriendChangedEvent(user.getId(), friend.getId(), FriendChangedEvent.ActionType.ADD));
 
-        // 상대에게 친구 추가 알림 보내기
-        notificationService.sendToClient(friend.getOauthId(),
+        // 상대에게 친구 추가 알림 보내기 (짧은 시간 안에 추가/삭제가 반복되면 합쳐서 보냄)
+        notificationCoalescer.submit(friend.getId(), friend.getOauthId(), friendKey(user), NOT_FRIEND, FRIEND,
                 NotificationDTO.builder()
                         .content(user.getNickname() + "님이 친구 추가를 하셨습니다.")
                         .type(NotificationType.ADD_FRIEND)
@@ -101,22 +146,16 @@ public class FriendService {
         User friend = userRepository.findById(friendId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FRIEND_NOT_FOUND));
 
-        // 친구 관계가 맞는지 확인
-        boolean alreadyAdded = friendRepository.existsByUserAndFriend(user, friend);
-        if(!alreadyAdded){
+        // 양방향 관계 한 번에 삭제, 삭제된 행이 없으면 친구 관계가 아님
+        int deleted = friendRepository.deleteBothDirections(user.getId(), friend.getId());
+        if(deleted == 0){
             throw new BusinessException(ErrorCode.NOT_FRIEND);
         }
 
-        Friend toFriend = friendRepository.findByUserAndFriend(user, friend)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FRIEND));
-        Friend fromFriend = friendRepository.findByUserAndFriend(friend, user)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FRIEND));
-
-        friendRepository.delete(toFriend);
-        friendRepository.delete(fromFriend);
+        eventPublisher.publishEvent(new FriendChangedEvent(user.getId(), friend.getId(), FriendChangedEvent.ActionType.DELETE));
 
-        // 상대에게 친구 삭제 알림 보내기
-        notificationService.sendToClient(friend.getOauthId(),
+        // 상대에게 친구 삭제 알림 보내기 (짧은 시간 안에 추가/삭제가 반복되면 합쳐서 보냄)
+        notificationCoalescer.submit(friend.getId(), friend.getOauthId(), friendKey(user), FRIEND, NOT_FRIEND,
                 NotificationDTO.builder()
                         .content(user.getNickname() + "님이 친구 삭제를 하셨습니다.")
                         .type(NotificationType.DELETE_FRIEND)
@@ -124,4 +163,9 @@ public class FriendService {
 
         return new FriendResponseDTO(friend.getId(), friend.getNickname(), friend.getProfileImage(), friend.getCode());
     }
+
+    // 같은 사람이 보낸 친구 추가/삭제 알림끼리 합침
+    private String friendKey(User actor) {
+        return "FRIEND:" + actor.getId();
+    }
 }
@@ -0,0 +1,144 @@
+package org.example.studylog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.dto.friend.FriendSuggestionResponseDTO;
+import org.example.studylog.entity.user.User;
+import org.example.studylog.repository.FriendSuggestionRepository;
+import org.example.studylog.repository.FriendSuggestionRepository.Suggestion;
+import org.example.studylog.repository.UserRepository;
+import org.example.studylog.repository.UserSummaryRepository;
+import org.example.studylog.repository.UserSummaryRepository.UserSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// 알 수도 있는 친구: 친구의 친구를 함께 아는 친구 수 순으로 추천
+@Slf4j
+@Service
+public class FriendSuggestionService {
+
+    // 함께 아는 친구 수 내림차순, 같으면 사용자 ID 오름차순
+    private static final Comparator<Suggestion> RANKING_ORDER =
+            Comparator.comparingInt(Suggestion::mutualCount).reversed().thenComparing(Suggestion::userId);
+
+    private final FriendGraphService friendGraphService;
+    private final FriendSuggestionRepository friendSuggestionRepository;
+    private final UserSummaryRepository userSummaryRepository;
+    private final UserRepository userRepository;
+    private final int maxSuggestions;
+
+    public FriendSuggestionService(FriendGraphService friendGraphService,
+                                   FriendSuggestionRepository friendSuggestionRepository,
+                                   UserSummaryRepository userSummaryRepository,
+                                   UserRepository userRepository,
+                                   @Value("${friend.suggestion.max-size:20}") int maxSuggestions) {
+        this.friendGraphService = friendGraphService;
+        this.friendSuggestionRepository = friendSuggestionRepository;
+        this.userSummaryRepository = userSummaryRepository;
+        this.userRepository = userRepository;
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    public List<FriendSuggestionResponseDTO> getSuggestions(String oauthId, int size) {
+        User user = userRepository.findByOauthId(oauthId);
+
+        List<Suggestion> suggestions = friendSuggestionRepository.get(user.getId());
+        if (suggestions == null) {
+            long stamp = friendSuggestionRepository.currentStamp();
+            suggestions = computeSuggestions(user.getId());
+            friendSuggestionRepository.save(user.getId(), suggestions, stamp);
+        }
+
+        List<Suggestion> page = suggestions.subList(0, Math.min(Math.max(size, 0), suggestions.size()));
+        Map<Long, UserSummary> summaries =
+                userSummaryRepository.findAllById(page.stream().map(Suggestion::userId).toList());
+
+        List<FriendSuggestionResponseDTO> result = new ArrayList<>(page.size());
+        for (Suggestion suggestion : page) {
+            UserSummary summary = summaries.get(suggestion.userId());
+            // 탈퇴한 사용자는 제외
+            if (summary == null) {
+                continue;
+            }
+            result.add(FriendSuggestionResponseDTO.builder()
+                    .id(summary.id())
+                    .nickname(summary.nickname())
+                    .profileImage(summary.profileImage())
+                    .code(summary.code())
+                    .mutualCount(suggestion.mutualCount())
+                    .build());
+        }
+        return result;
+    }
+
+    // 친구 관계가 바뀐 사용자들과 그 친구들의 추천 결과 무효화 (변경 반영 후의 친구 목록 기준)
+    public void invalidateAround(List<Long> userIds) {
+        for (Long id : userIds) {
+            friendSuggestionRepository.invalidate(id);
+            for (long neighborId : friendGraphService.getFriendIds(id)) {
+                friendSuggestionRepository.invalidate(neighborId);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        friendSuggestionRepository.invalidateAll();
+    }
+
+    // 친구들의 정렬된 친구 ID 배열을 k-way 병합하며 같은 ID가 나온 횟수(= 함께 아는 친구 수)를 세고,
+    // 크기 maxSuggestions인 최소 힙으로 상위 후보만 유지
+    private List<Suggestion> computeSuggestions(Long userId) {
+        long[] myFriends = friendGraphService.getFriendIds(userId);
+        if (myFriends.length == 0) {
+            return List.of();
+        }
+
+        long[][] lists = new long[myFriends.length][];
+        for (int i = 0; i < myFriends.length; i++) {
+            lists[i] = friendGraphService.getFriendIds(myFriends[i]);
+        }
+
+        // {목록 번호, 목록 내 위치}
+        PriorityQueue<int[]> cursors = new PriorityQueue<>(
+                Math.max(1, lists.length), Comparator.comparingLong(c -> lists[c[0]][c[1]]));
+        for (int i = 0; i < lists.length; i++) {
+            if (lists[i].length > 0) {
+                cursors.add(new int[]{i, 0});
+            }
+        }
+
+        PriorityQueue<Suggestion> top = new PriorityQueue<>(maxSuggestions + 1, RANKING_ORDER.reversed());
+        while (!cursors.isEmpty()) {
+            long candidateId = lists[cursors.peek()[0]][cursors.peek()[1]];
+            int mutualCount = 0;
+            while (!cursors.isEmpty() && lists[cursors.peek()[0]][cursors.peek()[1]] == candidateId) {
+                int[] cursor = cursors.poll();
+                mutualCount++;
+                if (++cursor[1] < lists[cursor[0]].length) {
+                    cursors.add(cursor);
+                }
+            }
+
+            // 본인과 이미 친구인 사용자는 제외
+            if (candidateId == userId || Arrays.binarySearch(myFriends, candidateId) >= 0) {
+                continue;
+            }
+
+            top.add(new Suggestion(candidateId, mutualCount));
+            if (top.size() > maxSuggestions) {
+                top.poll();
+            }
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(top);
+        suggestions.sort(RANKING_ORDER);
+        log.debug("친구 추천 계산: userId={}, 친구 수={}, 추천 수={}", userId, myFriends.length, suggestions.size());
+        return suggestions;
+    }
+}
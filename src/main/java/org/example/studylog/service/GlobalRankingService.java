@@ -0,0 +1,143 @@
+package org.example.studylog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.dto.GlobalRankingDTO;
+import org.example.studylog.entity.user.User;
+import org.example.studylog.repository.GlobalLeaderboardRepository;
+import org.example.studylog.repository.GlobalLeaderboardRepository.MyRank;
+import org.example.studylog.repository.GlobalLeaderboardRepository.RankedEntry;
+import org.example.studylog.repository.UserRepository;
+import org.example.studylog.repository.UserSummaryRepository;
+import org.example.studylog.repository.UserSummaryRepository.UserSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class GlobalRankingService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final GlobalLeaderboardRepository globalLeaderboardRepository;
+    private final UserSummaryRepository userSummaryRepository;
+    private final MonthlyStatWriter monthlyStatWriter;
+    private final UserRepository userRepository;
+    // 보드가 오래된 상태여도 이 간격 안에는 다시 구성하지 않음 (다른 서버의 변경이 잦을 때 매 조회마다 재구성하지 않도록)
+    private final long staleRebuildIntervalNanos;
+    private volatile long lastRebuildNanos;
+
+    public GlobalRankingService(GlobalLeaderboardRepository globalLeaderboardRepository,
+                                UserSummaryRepository userSummaryRepository,
+                                MonthlyStatWriter monthlyStatWriter,
+                                UserRepository userRepository,
+                                @Value("${ranking.global.stale-rebuild-interval-ms:10000}") long staleRebuildIntervalMillis) {
+        this.globalLeaderboardRepository = globalLeaderboardRepository;
+        this.userSummaryRepository = userSummaryRepository;
+        this.monthlyStatWriter = monthlyStatWriter;
+        this.userRepository = userRepository;
+        this.staleRebuildIntervalNanos = TimeUnit.MILLISECONDS.toNanos(staleRebuildIntervalMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        try {
+            rebuild(YearMonth.now());
+        } catch (Exception e) {
+            log.error("기동 시 전체 랭킹 재구성 중 오류 발생", e);
+        }
+    }
+
+    public GlobalRankingDTO.PageResponseDTO getPage(String oauthId, Integer lastCount, Long lastId, int size) {
+        User currentUser = userRepository.findByOauthId(oauthId);
+        ensureCurrentMonth();
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<RankedEntry> entries = globalLeaderboardRepository.findPage(lastCount, lastId, pageSize + 1);
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+
+        Map<Long, UserSummary> members =
+                userSummaryRepository.findAllById(entries.stream().map(RankedEntry::userId).toList());
+
+        List<GlobalRankingDTO.EntryDTO> rankings = new ArrayList<>(entries.size());
+        for (RankedEntry entry : entries) {
+            UserSummary member = members.get(entry.userId());
+            // 탈퇴한 사용자는 제외
+            if (member == null) {
+                continue;
+            }
+            rankings.add(GlobalRankingDTO.EntryDTO.builder()
+                    .rank(entry.rank())
+                    .id(member.id())
+                    .nickname(member.nickname())
+                    .profileImage(member.profileImage())
+                    .code(member.code())
+                    .recordCount(entry.recordCount())
+                    .isMe(entry.userId().equals(currentUser.getId()))
+                    .build());
+        }
+
+        RankedEntry last = entries.isEmpty() ? null : entries.get(entries.size() - 1);
+        return GlobalRankingDTO.PageResponseDTO.builder()
+                .rankings(rankings)
+                .hasMore(hasMore)
+                .nextCount(hasMore ? last.recordCount() : null)
+                .nextId(hasMore ? last.userId() : null)
+                .build();
+    }
+
+    public GlobalRankingDTO.MyRankResponseDTO getMyRank(String oauthId) {
+        User currentUser = userRepository.findByOauthId(oauthId);
+        ensureCurrentMonth();
+
+        MyRank myRank = globalLeaderboardRepository.findRank(currentUser.getId());
+        double topPercent = myRank.recordCount() > 0
+                ? Math.round(myRank.rank() * 1000.0 / myRank.totalUsers()) / 10.0
+                : 100.0;
+
+        return GlobalRankingDTO.MyRankResponseDTO.builder()
+                .rank(myRank.rank())
+                .recordCount(myRank.recordCount())
+                .totalUsers(myRank.totalUsers())
+                .topPercent(topPercent)
+                .build();
+    }
+
+    // 월이 바뀌었거나 보드가 오래되었으면(다른 서버의 변경 전파 등) 다시 구성
+    private void ensureCurrentMonth() {
+        if (!needsRebuild()) {
+            return;
+        }
+        synchronized (this) {
+            if (needsRebuild()) {
+                rebuild(YearMonth.now());
+            }
+        }
+    }
+
+    private boolean needsRebuild() {
+        if (!YearMonth.now().equals(globalLeaderboardRepository.getMonth())) {
+            return true;
+        }
+        return globalLeaderboardRepository.isStale()
+                && System.nanoTime() - lastRebuildNanos >= staleRebuildIntervalNanos;
+    }
+
+    // 기동 시 재구성과 월 변경 재구성이 겹치지 않도록 동기화
+    private synchronized void rebuild(YearMonth month) {
+        lastRebuildNanos = System.nanoTime();
+        globalLeaderboardRepository.rebuild(month,
+                () -> monthlyStatWriter.loadMonthlyCounts(month.getYear(), month.getMonthValue()));
+    }
+}
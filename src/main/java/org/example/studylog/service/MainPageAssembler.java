@@ -0,0 +1,225 @@
+package org.example.studylog.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.dto.MainPageResponseDTO;
+import org.example.studylog.dto.friend.FriendPageResponseDTO;
+import org.example.studylog.entity.Streak;
+import org.example.studylog.entity.category.Category;
+import org.example.studylog.entity.user.User;
+import org.example.studylog.repository.CategoryRepository;
+import org.example.studylog.repository.StreakRepository;
+import org.example.studylog.repository.StudyRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 메인 페이지의 서로 독립적인 섹션(친구 목록, 스트릭, 최대 스트릭, 카테고리)을 동시에 조회해 조립
+@Slf4j
+@Component
+public class MainPageAssembler {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    // 친구 목록 섹션을 가져오지 못했을 때 (친구 수는 알 수 없으므로 null)
+    private static final FriendPageResponseDTO EMPTY_FOLLOWING =
+            new FriendPageResponseDTO(List.of(), null, false, null, null);
+
+    private final FriendGraphService friendGraphService;
+    private final StudyRecordRepository studyRecordRepository;
+    private final StreakRepository streakRepository;
+    private final CategoryRepository categoryRepository;
+    private final StreakService streakService;
+
+    private final ExecutorService executor;
+    private final TransactionTemplate sectionTransaction;
+    private final long sectionTimeoutMillis;
+    private final int followingPageSize;
+
+    public MainPageAssembler(FriendGraphService friendGraphService,
+                             StudyRecordRepository studyRecordRepository,
+                             StreakRepository streakRepository,
+                             CategoryRepository categoryRepository,
+                             StreakService streakService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${main.assembler.pool-size:8}") int poolSize,
+                             @Value("${main.assembler.queue-capacity:200}") int queueCapacity,
+                             @Value("${main.assembler.section-timeout-ms:2000}") long sectionTimeoutMillis,
+                             @Value("${main.following.page-size:20}") int followingPageSize) {
+        this.friendGraphService = friendGraphService;
+        this.studyRecordRepository = studyRecordRepository;
+        this.streakRepository = streakRepository;
+        this.categoryRepository = categoryRepository;
+        this.streakService = streakService;
+        this.sectionTimeoutMillis = sectionTimeoutMillis;
+        this.followingPageSize = followingPageSize;
+
+        // 섹션마다 읽기 전용 트랜잭션으로 실행하고, 트랜잭션 타임아웃으로 섹션 안의 쿼리에 statement timeout을 걸어
+        // 시간 초과된 섹션의 쿼리가 DB에서 계속 실행되지 않도록 함 (초 단위이므로 올림)
+        this.sectionTransaction = new TransactionTemplate(transactionManager);
+        this.sectionTransaction.setReadOnly(true);
+        this.sectionTransaction.setTimeout((int) Math.max(1L, (sectionTimeoutMillis + 999) / 1000));
+
+        // 풀과 대기열이 모두 차면 거절하고 해당 섹션은 기본값으로 대체 (요청 스레드에서 실행하지 않음)
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("main-page-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // currentUser가 있고 대상과 다르면 팔로우 여부도 함께 조회 (본인 페이지는 isFollowing = null)
+    public MainPageResponseDTO assemble(User targetUser, User currentUser) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMillis);
+        boolean checkFollow = currentUser != null && !currentUser.getId().equals(targetUser.getId());
+
+        // 1. 각 섹션 동시 조회 시작
+        Future<FriendPageResponseDTO> followingFuture =
+                submit(() -> friendGraphService.getFriendPage(targetUser.getId(), null, followingPageSize));
+        Future<Map<String, Integer>> recordCountFuture =
+                submit(() -> getCurrentStreakData(targetUser));
+        Future<Integer> maxStreakFuture =
+                submit(() -> getMaxStreak(targetUser));
+        Future<List<MainPageResponseDTO.CategoryCountDTO>> categoriesFuture =
+                submit(() -> getCategoryCountData(targetUser));
+        Future<Boolean> isFollowingFuture = checkFollow
+                ? submit(() -> friendGraphService.isFriend(currentUser.getId(), targetUser.getId()))
+                : CompletableFuture.completedFuture(null);
+
+        // 2. 프로필 정보 생성 (이미 조회된 엔티티 값만 사용)
+        MainPageResponseDTO.ProfileDTO profile = MainPageResponseDTO.ProfileDTO.builder()
+                .userId(targetUser.getId())
+                .coverImage(targetUser.getBackImage())  // null이면 null 반환
+                .profileImage(targetUser.getProfileImage())
+                .name(targetUser.getNickname())
+                .intro(targetUser.getIntro())
+                .level(targetUser.getLevel())
+                .code(targetUser.getCode())
+                .build();
+
+        // 3. 섹션별 결과 수집 (시간 초과/오류 섹션은 기본값으로 대체)
+        List<String> degradedSections = new ArrayList<>();
+        FriendPageResponseDTO following =
+                await(followingFuture, "following", EMPTY_FOLLOWING, deadline, degradedSections);
+        Map<String, Integer> recordCountPerDay =
+                await(recordCountFuture, "recordCountPerDay", Map.of(), deadline, degradedSections);
+        Integer maxStreak =
+                await(maxStreakFuture, "maxStreak", 0, deadline, degradedSections);
+        List<MainPageResponseDTO.CategoryCountDTO> categories =
+                await(categoriesFuture, "categories", List.of(), deadline, degradedSections);
+        Boolean isFollowing =
+                await(isFollowingFuture, "isFollowing", null, deadline, degradedSections);
+
+        MainPageResponseDTO.StreakDTO streak = MainPageResponseDTO.StreakDTO.builder()
+                .maxStreak(maxStreak)
+                .recordCountPerDay(recordCountPerDay)
+                .build();
+
+        return MainPageResponseDTO.builder()
+                .following(following.getFriends())
+                .followingCount(following.getTotalCount())
+                .profile(profile)
+                .streak(streak)
+                .categories(categories)
+                .isFollowing(isFollowing)
+                .partial(!degradedSections.isEmpty())
+                .degradedSections(degradedSections)
+                .build();
+    }
+
+    // executor.submit의 Future는 cancel(true) 시 실행 중인 스레드를 인터럽트함 (커넥션 대기 등에서 빠져나옴)
+    private <T> Future<T> submit(Supplier<T> section) {
+        try {
+            return executor.submit(() -> sectionTransaction.execute(status -> section.get()));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> T await(Future<T> future, String section, T fallback,
+                        long deadline, List<String> degradedSections) {
+        try {
+            long remaining = Math.max(0L, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("메인 페이지 섹션 조회 시간 초과: section={}, timeout={}ms", section, sectionTimeoutMillis);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                log.warn("메인 페이지 섹션 조회 대기열 가득 참, 기본값으로 대체: section={}", section);
+            } else {
+                log.error("메인 페이지 섹션 조회 중 오류 발생: section={}", section, e.getCause());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("메인 페이지 섹션 조회 중 인터럽트 발생: section={}", section);
+        }
+        degradedSections.add(section);
+        return fallback;
+    }
+
+    private Map<String, Integer> getCurrentStreakData(User user) {
+        Map<String, Integer> streakData = new HashMap<>();
+
+        // 현재 월의 일자별 기록 수를 한 번의 쿼리로 조회 (기록이 있는 날만 포함)
+        YearMonth currentMonth = YearMonth.from(LocalDate.now());
+        streakService.getRecordCountPerDay(user, currentMonth.atDay(1), currentMonth.atEndOfMonth())
+                .forEach((date, count) -> streakData.put(date.format(DATE_FORMATTER), count));
+
+        return streakData;
+    }
+
+    private Integer getMaxStreak(User user) {
+        return streakRepository.findByUser(user)
+                .map(Streak::getMaxStreak)
+                .orElse(0);
+    }
+
+    private List<MainPageResponseDTO.CategoryCountDTO> getCategoryCountData(User user) {
+        // N+1 쿼리 해결: 한 번의 쿼리로 카테고리별 기록 수 조회
+        List<Object[]> categoryCountResults = studyRecordRepository.findCategoryCountsByUser(user);
+
+        Map<Long, Integer> categoryCountMap = categoryCountResults.stream()
+                .collect(Collectors.toMap(
+                        result -> (Long) result[0],     // categoryId
+                        result -> ((Long) result[1]).intValue()  // count
+                ));
+
+        // 카테고리 정보 조회
+        List<Category> categories = categoryRepository.findByUserOrderByNameAsc(user);
+
+        return categories.stream()
+                .map(category -> MainPageResponseDTO.CategoryCountDTO.builder()
+                        .name(category.getName())
+                        .count(categoryCountMap.getOrDefault(category.getId(), 0))
+                        .build())
+                .sorted((a, b) -> b.getCount().compareTo(a.getCount()))  // count 기준 내림차순 정렬
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
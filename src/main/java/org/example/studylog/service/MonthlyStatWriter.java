@@ -0,0 +1,122 @@
+package org.example.studylog.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.repository.MonthlyStatDeltaBuffer;
+import org.example.studylog.repository.MonthlyStatDeltaBuffer.StatKey;
+import org.example.studylog.repository.custom.RankingRepositoryImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// user_monthly_stat 기록 수 반영
+// 쓰기 지연 모드에서는 버퍼에 합쳐 두었다가 flush 시 배치로 반영하고, 아니면 바로 upsert
+@Slf4j
+@Component
+public class MonthlyStatWriter {
+
+    private final RankingRepositoryImpl rankingRepository;
+    private final MonthlyStatDeltaBuffer deltaBuffer;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final boolean writeBehind;
+    // flush는 버퍼에서 꺼낸 변경분이 커밋될 때까지 쓰기 락을 잡음
+    // 보드 적재는 읽기 락 안에서 DB와 버퍼를 읽어, 꺼냈지만 아직 커밋되지 않은 변경분이 양쪽 모두에서 빠지지 않도록 함
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    public MonthlyStatWriter(RankingRepositoryImpl rankingRepository,
+                             MonthlyStatDeltaBuffer deltaBuffer,
+                             CacheInvalidationService cacheInvalidationService,
+                             @Value("${ranking.stat.write-behind.enabled:false}") boolean writeBehind) {
+        this.rankingRepository = rankingRepository;
+        this.deltaBuffer = deltaBuffer;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.writeBehind = writeBehind;
+    }
+
+    public void increment(Long userId, int year, int month) {
+        if (writeBehind) {
+            deltaBuffer.add(userId, year, month, 1);
+            return;
+        }
+        rankingRepository.incrementOrInsert(userId, year, month);
+        cacheInvalidationService.propagateLeaderboardChange(List.of(userId));
+    }
+
+    public void decrement(Long userId, int year, int month) {
+        if (writeBehind) {
+            deltaBuffer.add(userId, year, month, -1);
+            return;
+        }
+        rankingRepository.decrement(userId, year, month);
+        cacheInvalidationService.propagateLeaderboardChange(List.of(userId));
+    }
+
+    // DB 값에 아직 반영되지 않은 변경분까지 더한 해당 월의 기록 수 (랭킹 보드 적재용)
+    public Map<Long, Integer> loadMonthlyCounts(int year, int month) {
+        if (!writeBehind) {
+            return new HashMap<>(rankingRepository.findMonthlyCounts(year, month));
+        }
+
+        Map<Long, Integer> counts;
+        Map<Long, Integer> pending;
+        flushLock.readLock().lock();
+        try {
+            counts = new HashMap<>(rankingRepository.findMonthlyCounts(year, month));
+            pending = deltaBuffer.pendingOf(year, month);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+
+        pending.forEach((userId, delta) -> {
+            Integer current = counts.get(userId);
+            if (current != null) {
+                counts.put(userId, Math.max(0, current + delta));
+            } else if (delta > 0) {
+                counts.put(userId, delta);
+            }
+        });
+        return counts;
+    }
+
+    public void flush() {
+        if (!writeBehind) {
+            return;
+        }
+
+        flushLock.writeLock().lock();
+        try {
+            Map<StatKey, Integer> deltas = deltaBuffer.drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                int missing = rankingRepository.applyDeltas(deltas);
+                if (missing > 0) {
+                    log.warn("user_monthly_stat에 행이 없어 반영되지 않은 감소분: {}건", missing);
+                }
+                log.debug("월별 기록 수 변경분 반영: {}건", deltas.size());
+                // 다른 서버의 랭킹 보드는 DB에 반영된 뒤에 제거
+                cacheInvalidationService.propagateLeaderboardChange(
+                        deltas.keySet().stream().map(StatKey::userId).distinct().toList());
+            } catch (Exception e) {
+                // 반영에 실패한 변경분은 다음 flush에서 다시 시도
+                deltas.forEach((key, delta) -> deltaBuffer.add(key.userId(), key.year(), key.month(), delta));
+                log.error("월별 기록 수 변경분 반영 실패: {}건 재시도 예정", deltas.size(), e);
+            }
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    // 종료 시 남은 변경분 반영
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
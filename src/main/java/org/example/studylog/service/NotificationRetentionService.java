@@ -0,0 +1,148 @@
+package org.example.studylog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.repository.NotificationPartitionRepository;
+import org.example.studylog.repository.custom.NotificationRepositoryImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 알림 보관 정책
+// 1. 다음 달들의 파티션을 미리 생성 (default 파티션에 쌓인 달도 파티션을 만들어 옮김)
+// 2. 보관 기간이 지난 달의 파티션을 분리해서 삭제(또는 보관용으로 남김), default 파티션의 지난 알림도 삭제
+// 3. 사용자별 알림이 max-per-user개를 넘으면 오래된 것부터 chunk 단위로 삭제
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private final NotificationPartitionRepository partitionRepository;
+    private final NotificationRepositoryImpl notificationRepositoryImpl;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final boolean archive;
+    private final String lockTimeout;
+    private final int maxPerUser;
+    private final int chunkSize;
+    private final int usersPerRun;
+    private final long chunkPauseMillis;
+
+    public NotificationRetentionService(NotificationPartitionRepository partitionRepository,
+                                        NotificationRepositoryImpl notificationRepositoryImpl,
+                                        @Value("${notification.partition.premake-months:3}") int premakeMonths,
+                                        @Value("${notification.retention.months:6}") int retentionMonths,
+                                        @Value("${notification.retention.archive:false}") boolean archive,
+                                        @Value("${notification.retention.lock-timeout:5s}") String lockTimeout,
+                                        @Value("${notification.retention.max-per-user:500}") int maxPerUser,
+                                        @Value("${notification.retention.chunk-size:1000}") int chunkSize,
+                                        @Value("${notification.retention.users-per-run:1000}") int usersPerRun,
+                                        @Value("${notification.retention.chunk-pause-ms:50}") long chunkPauseMillis) {
+        if (!lockTimeout.matches("\\d+(ms|s|min)?")) {
+            throw new IllegalArgumentException("잘못된 lock-timeout 값입니다: " + lockTimeout);
+        }
+        this.partitionRepository = partitionRepository;
+        this.notificationRepositoryImpl = notificationRepositoryImpl;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.archive = archive;
+        this.lockTimeout = lockTimeout;
+        this.maxPerUser = maxPerUser;
+        this.chunkSize = chunkSize;
+        this.usersPerRun = usersPerRun;
+        this.chunkPauseMillis = chunkPauseMillis;
+    }
+
+    // 이번 달부터 premake-months 뒤까지 파티션이 없으면 생성 (없으면 default 파티션에 쌓임)
+    // default 파티션에 쌓인 달 중 보관 기간 안의 달도 파티션을 만들어 옮김 (지난 달은 dropExpiredPartitions에서 삭제)
+    public void ensurePartitions() {
+        List<YearMonth> existing = partitionRepository.findPartitionMonths();
+        YearMonth current = YearMonth.now();
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        Set<YearMonth> months = new TreeSet<>();
+        for (int i = 0; i <= premakeMonths; i++) {
+            months.add(current.plusMonths(i));
+        }
+        for (YearMonth month : partitionRepository.findDefaultPartitionMonths()) {
+            if (month.isBefore(oldestKept)) {
+                continue;
+            }
+            months.add(month);
+            log.warn("default 파티션에 알림이 쌓여 있어 파티션으로 옮김: month={}", month);
+        }
+        for (YearMonth month : months) {
+            if (!existing.contains(month)) {
+                int moved = partitionRepository.createPartition(month, lockTimeout);
+                log.info("알림 파티션 생성: month={}, default에서 옮긴 수={}", month, moved);
+            }
+        }
+    }
+
+    // 이번 달 기준 retention-months 이전 달의 파티션 정리
+    public int dropExpiredPartitions() {
+        YearMonth oldestKept = YearMonth.now().minusMonths(retentionMonths);
+        int detached = 0;
+        for (YearMonth month : partitionRepository.findPartitionMonths()) {
+            if (!month.isBefore(oldestKept)) {
+                break;
+            }
+            try {
+                partitionRepository.detachPartition(month, archive, lockTimeout);
+                detached++;
+                log.info("보관 기간 지난 알림 파티션 {}: month={}", archive ? "보관 처리" : "삭제", month);
+            } catch (Exception e) {
+                // 잠금 대기 시간 초과 등은 다음 실행에서 다시 시도
+                log.warn("알림 파티션 정리 실패: month={}, error={}", month, e.getMessage());
+            }
+        }
+        long deleted = deleteExpiredFromDefault(oldestKept);
+        if (deleted > 0) {
+            log.warn("default 파티션의 보관 기간 지난 알림 삭제: 삭제 수={}", deleted);
+        }
+        return detached;
+    }
+
+    // 파티션이 없던 달의 알림은 default 파티션에 남으므로 같은 보관 기간으로 chunk 단위 삭제
+    private long deleteExpiredFromDefault(YearMonth oldestKept) {
+        LocalDateTime before = oldestKept.atDay(1).atStartOfDay();
+        long deleted = 0;
+        int count;
+        do {
+            count = partitionRepository.deleteExpiredFromDefault(before, chunkSize);
+            deleted += count;
+        } while (count == chunkSize && pause());
+        return deleted;
+    }
+
+    // 사용자별 알림 개수 제한, chunk마다 짧은 트랜잭션으로 나눠 삭제
+    public long compact() {
+        long deleted = 0;
+        for (Long userId : notificationRepositoryImpl.findUserIdsOverCap(maxPerUser, usersPerRun)) {
+            int count;
+            do {
+                count = notificationRepositoryImpl.deleteBeyondCap(userId, maxPerUser, chunkSize);
+                deleted += count;
+                if (!pause()) {
+                    return deleted;
+                }
+            } while (count == chunkSize);
+        }
+        if (deleted > 0) {
+            log.info("사용자별 알림 개수 제한 정리 완료: 삭제 수={}", deleted);
+        }
+        return deleted;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(chunkPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
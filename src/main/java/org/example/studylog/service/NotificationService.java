@@ -1,9 +1,9 @@
 package org.example.studylog.service;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.studylog.dto.notification.NotificationDTO;
 import org.example.studylog.dto.notification.NotificationListResponseDTO;
-import org.example.studylog.dto.notification.NotificationResponseDTO;
+import org.example.studylog.dto.notification.NotificationPageResponseDTO;
 import org.example.studylog.entity.notification.Notification;
 import org.example.studylog.entity.user.User;
 import org.example.studylog.exception.BusinessException;
@@ -11,40 +11,97 @@ import org.example.studylog.exception.ErrorCode;
 import org.example.studylog.repository.EmitterRepository;
 import org.example.studylog.repository.NotificationRepository;
 import org.example.studylog.repository.UserRepository;
-import org.example.studylog.util.TimeUtil;
+import org.example.studylog.repository.custom.NotificationRepositoryImpl;
+import org.example.studylog.service.notification.NotificationCommand;
+import org.example.studylog.service.notification.NotificationDispatcher;
+import org.example.studylog.service.notification.NotificationMessage;
+import org.example.studylog.service.notification.NotificationPipeline;
+import org.example.studylog.service.notification.SseHeartbeatService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
     private final static Long DEFAULT_TIMEOUT = 60 * 60 * 1000L;
-    private final static String NOTIFICATION_NAME = "notification";
+    private final static int MAX_PAGE_SIZE = 100;
+    private final static String NOTIFICATION_NAME = NotificationDispatcher.NOTIFICATION_NAME;
 
     private final EmitterRepository emitterRepository;
     private final UserRepository userRepository;
     private final NotificationRepository notificationRepository;
+    private final NotificationRepositoryImpl notificationRepositoryImpl;
+    private final NotificationPipeline notificationPipeline;
+    private final NotificationDispatcher notificationDispatcher;
+    private final SseHeartbeatService sseHeartbeatService;
+    private final int maxReplaySize;
+    private final Duration replayOverlap;
+
+    public NotificationService(EmitterRepository emitterRepository,
+                               UserRepository userRepository,
+                               NotificationRepository notificationRepository,
+                               NotificationRepositoryImpl notificationRepositoryImpl,
+                               NotificationPipeline notificationPipeline,
+                               NotificationDispatcher notificationDispatcher,
+                               SseHeartbeatService sseHeartbeatService,
+                               @Value("${notification.replay.max-size:100}") int maxReplaySize,
+                               @Value("${notification.replay.overlap-seconds:5}") long replayOverlapSeconds) {
+        this.emitterRepository = emitterRepository;
+        this.userRepository = userRepository;
+        this.notificationRepository = notificationRepository;
+        this.notificationRepositoryImpl = notificationRepositoryImpl;
+        this.notificationPipeline = notificationPipeline;
+        this.notificationDispatcher = notificationDispatcher;
+        this.sseHeartbeatService = sseHeartbeatService;
+        this.maxReplaySize = maxReplaySize;
+        this.replayOverlap = Duration.ofSeconds(replayOverlapSeconds);
+    }
 
-    public SseEmitter createEmitter(String oauthId) {
+    public SseEmitter createEmitter(String oauthId, String lastEventId) {
         // (구독 요청이 들어오면) 새로운 SseEmitter 객체를 만든다.
+        // 탭/기기마다 연결을 따로 보관하므로 연결마다 id를 붙인다.
+        String emitterId = oauthId + "_" + UUID.randomUUID();
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
 
-        // oauthId로 SseEmitter를 저장한다.
-        emitterRepository.save(oauthId, emitter);
+        emitter.onCompletion(() -> remove(oauthId, emitterId));
+        emitter.onTimeout(() -> remove(oauthId, emitterId));
+        emitter.onError((e) -> remove(oauthId, emitterId));
 
-        emitter.onCompletion(() -> emitterRepository.delete(oauthId));
-        emitter.onTimeout(() -> emitterRepository.delete(oauthId));
-        emitter.onError((e) -> emitterRepository.delete(oauthId));
+        // 사용자당 연결 수를 넘으면 가장 오래된 연결을 종료
+        SseEmitter evicted = emitterRepository.save(oauthId, emitterId, emitter);
+        if (evicted != null) {
+            evicted.complete();
+        }
+        sseHeartbeatService.register(oauthId, emitterId, emitter);
 
-        // 첫 연결 시 응답 더미 데이터 (503 에러 방지)
+        User user = userRepository.findByOauthId(oauthId);
+        Long lastId = parseLastEventId(lastEventId);
         try {
-            emitter.send(SseEmitter.event().id("").name(NOTIFICATION_NAME).data("Connection completed"));
+            if (lastId == null) {
+                // 첫 연결 시 응답 더미 데이터 (503 에러 방지)
+                // 현재 마지막 알림 id를 이벤트 id로 보내서, 이후 재연결 시 놓친 알림만 받도록 함
+                Long latestId = notificationRepository.findTopByUserOrderByIdDesc(user)
+                        .map(Notification::getId)
+                        .orElse(0L);
+                emitter.send(SseEmitter.event().id(String.valueOf(latestId)).name(NOTIFICATION_NAME).data("Connection completed"));
+            } else {
+                // 재연결이면 이벤트 id를 바꾸지 않고, 끊긴 동안 쌓인 알림을 순서대로 재전송
+                emitter.send(SseEmitter.event().name(NOTIFICATION_NAME).data("Connection completed"));
+                replay(emitter, user, oauthId, lastId);
+            }
         } catch (IOException e) {
             throw new BusinessException(ErrorCode.NOTIFICATION_CONNECTION_ERROR);
         }
@@ -52,55 +109,99 @@ public class NotificationService {
         return emitter;
     }
 
+    private void remove(String oauthId, String emitterId) {
+        emitterRepository.delete(oauthId, emitterId);
+        notificationDispatcher.release(emitterId);
+        sseHeartbeatService.unregister(emitterId);
+    }
+
+    // id는 INSERT 시점에 할당되어 커밋 순서와 다를 수 있으므로(다른 서버가 더 작은 id를 늦게 커밋),
+    // Last-Event-ID 알림이 저장되기 전 overlap 동안 저장된 더 작은 id의 알림도 다시 보냄
+    // 이미 받은 알림이 다시 갈 수 있으므로 클라이언트는 이벤트 id(알림 id)로 중복을 제거해야 함
+    private void replay(SseEmitter emitter, User user, String oauthId, Long lastId) throws IOException {
+        LocalDateTime since = notificationRepository.findById(lastId)
+                .map(last -> last.getCreatedAt().minus(replayOverlap))
+                .orElse(LocalDateTime.now().minus(replayOverlap));
+        List<Notification> missed = notificationRepository.findReplay(
+                user, lastId, since, PageRequest.of(0, maxReplaySize));
+        for (Notification notification : missed) {
+            emitter.send(NotificationDispatcher.toEvent(new NotificationMessage(
+                    oauthId, notification.getId(), notification.getType().getLabel(), notification.getContent())));
+        }
+        if (!missed.isEmpty()) {
+            log.info("놓친 알림 재전송: oauthId={}, lastEventId={}, count={}", oauthId, lastId, missed.size());
+        }
+    }
+
+    private Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            // 이전 버전에서 받은 id 등 해석할 수 없는 값은 첫 연결로 처리
+            return null;
+        }
+    }
+
     // 클라이언트로 알림 보내기
-    @Transactional
-    public void sendToClient(String oauthId, NotificationDTO dto) {
-        // 알림을 DB에 저장하기
-        User user = userRepository.findByOauthId(oauthId);
-        Notification notification = Notification.builder()
-                .user(user)
-                .type(dto.getType())
-                .content(dto.getContent())
-                .build();
-        notificationRepository.save(notification);
-
-        // 알림 보낼 대상의 SSE 객체가 있다면 알림 전송
-        SseEmitter emitter = emitterRepository.get(oauthId);
-        if(emitter != null){
-            try {
-                NotificationResponseDTO resDTO = NotificationResponseDTO.builder()
-                                .type(dto.getType().getLabel())
-                                .content(dto.getContent()).build();
-                emitter.send(SseEmitter.event()
-                        .name(NOTIFICATION_NAME)
-                        .data(resDTO));
-            } catch (IOException e){
-                // IOException 발생하면 저장된 emitter를 삭제
-                emitter.completeWithError(e);
-                emitterRepository.delete(oauthId);
-            }
+    // 저장 파이프라인에 넘기기만 하고, 저장(일괄 INSERT)과 SSE 전송은 별도 스레드에서 처리
+    // 호출한 쪽의 트랜잭션이 있으면 커밋된 뒤에 넘겨서 롤백된 변경의 알림은 남기지 않음
+    public void sendToClient(Long userId, String oauthId, NotificationDTO dto) {
+        NotificationCommand command = new NotificationCommand(userId, oauthId, dto.getType(), dto.getContent());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationPipeline.submit(command);
+                }
+            });
+        } else {
+            notificationPipeline.submit(command);
         }
     }
 
+    // 최신순 알림 목록, isRead가 true이면 안 읽은 알림을 한 번의 UPDATE로 모두 읽음 처리
     @Transactional
-    public List<NotificationListResponseDTO> getNotificationList(String oauthId, boolean isRead) {
+    public NotificationPageResponseDTO getNotificationList(String oauthId, boolean isRead,
+                                                           LocalDateTime lastCreatedAt, Long lastId, int size) {
         User user = userRepository.findByOauthId(oauthId);
-        List<Notification> notifications = notificationRepository.findTop30ByUserOrderByCreatedAtDesc(user);
 
-        List<NotificationListResponseDTO> list = notifications.stream()
-                .map(NotificationListResponseDTO::from)
-                .collect(Collectors.toList());
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<Notification> notifications =
+                notificationRepositoryImpl.findPageByUserId(user.getId(), lastCreatedAt, lastId, pageSize + 1);
+        boolean hasMore = notifications.size() > pageSize;
+        if (hasMore) {
+            notifications = notifications.subList(0, pageSize);
+        }
 
-        // isRead가 true이면 읽음 처리
         if (isRead) {
-            notifications.stream()
-                    .filter(n -> !n.isRead()) // 아직 읽지 않은 것만
-                    .forEach(n -> n.setRead(true));
+            notificationRepositoryImpl.markAllRead(user.getId());
         }
 
-        // DTO 변환 후 반환
-        return notifications.stream()
-                .map(NotificationListResponseDTO::from)
-                .collect(Collectors.toList());
+        Notification last = hasMore ? notifications.get(notifications.size() - 1) : null;
+        return NotificationPageResponseDTO.builder()
+                .notifications(notifications.stream()
+                        .map(n -> NotificationListResponseDTO.from(n, isRead))
+                        .collect(Collectors.toList()))
+                .hasMore(hasMore)
+                .nextCreatedAt(last != null ? last.getCreatedAt() : null)
+                .nextId(last != null ? last.getId() : null)
+                .build();
+    }
+
+    @Transactional
+    public int markAllRead(String oauthId) {
+        User user = userRepository.findByOauthId(oauthId);
+        return notificationRepositoryImpl.markAllRead(user.getId());
+    }
+
+    // 알림 테이블을 세지 않고 사용자별 카운터만 조회
+    @Transactional(readOnly = true)
+    public int getUnreadCount(String oauthId) {
+        User user = userRepository.findByOauthId(oauthId);
+        return notificationRepositoryImpl.countUnread(user.getId());
     }
 }
@@ -3,22 +3,37 @@ package org.example.studylog.service;
 import lombok.RequiredArgsConstructor;
 import org.example.studylog.dto.RankingResponseDTO;
 import org.example.studylog.entity.user.User;
-import org.example.studylog.repository.FriendRepository;
+import org.example.studylog.exception.BusinessException;
+import org.example.studylog.exception.ErrorCode;
+import org.example.studylog.repository.LeaderboardRepository;
 import org.example.studylog.repository.UserRepository;
+import org.example.studylog.repository.UserSummaryRepository;
+import org.example.studylog.repository.UserSummaryRepository.UserSummary;
 import org.example.studylog.repository.custom.RankingRepositoryImpl;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class RankingService {
 
-    private final FriendRepository friendRepository;
-    private final RankingRepositoryImpl rankingRepository;
+    private final FriendGraphService friendGraphService;
     private final UserRepository userRepository;
+    private final LeaderboardRepository leaderboardRepository;
+    private final UserSummaryRepository userSummaryRepository;
+    private final MonthlyStatWriter monthlyStatWriter;
+    private final RankingSnapshotService rankingSnapshotService;
+    private final RankingRepositoryImpl rankingRepository;
+
+    // 집계 행이 있는 가장 이른 월 (한 번 확인되면 더 이른 월의 행은 생기지 않으므로 계속 사용)
+    private volatile YearMonth firstMonth;
 
     public List<RankingResponseDTO> getFriendRankings(
             String oauthId,
@@ -26,24 +41,78 @@ public class RankingService {
             Integer month) {
         LocalDate now = LocalDate.now();
         int targetYear = (year != null) ? year : now.getYear();
-        int targetMonth = (month != null) ? month : now.getMonthValue();
+        int targetMonthValue = (month != null) ? month : now.getMonthValue();
+
+        if (targetMonthValue < 1 || targetMonthValue > 12) {
+            throw new BusinessException(ErrorCode.INVALID_RANKING_PERIOD);
+        }
+        YearMonth targetMonth = YearMonth.of(targetYear, targetMonthValue);
+        // 기록이 있을 수 없는 월은 보드를 적재하지 않음 (적재하면 이번 달 보드가 LRU에서 밀려날 수 있음)
+        if (targetMonth.isAfter(YearMonth.now()) || targetMonth.isBefore(firstMonth())) {
+            throw new BusinessException(ErrorCode.INVALID_RANKING_PERIOD);
+        }
 
         // 현재 유저 DB에서 조회
         User currentUser = userRepository.findByOauthId(oauthId);
 
         // 친구 ID 목록에 현재 유저 ID 포함
-        List<Long> userIds = new ArrayList<>(friendRepository.findFriendIdsByUserId(currentUser.getId()));
+        long[] friendIds = friendGraphService.getFriendIds(currentUser.getId());
+        List<Long> userIds = new ArrayList<>(friendIds.length + 1);
+        for (long friendId : friendIds) {
+            userIds.add(friendId);
+        }
         userIds.add(currentUser.getId());
 
-        List<RankingResponseDTO> rankings = rankingRepository.findFriendRankings(targetYear, targetMonth, userIds);
+        Map<Long, Integer> counts = rankingSnapshotService.isClosed(targetMonth)
+                ? rankingSnapshotService.findCounts(targetMonth, userIds)
+                : findLiveCounts(targetMonth, userIds);
 
-        // isMe 필드 추가
-        rankings.forEach(r -> {
-            if (r.getId().equals(currentUser.getId())) {
-                r.setMe(true);
+        // 해당 월에 집계 행이 있는 사용자만 포함
+        List<Long> rankedIds = new ArrayList<>(counts.keySet());
+
+        Map<Long, UserSummary> members = userSummaryRepository.findAllById(rankedIds);
+
+        List<RankingResponseDTO> rankings = new ArrayList<>(rankedIds.size());
+        for (Long userId : rankedIds) {
+            UserSummary member = members.get(userId);
+            Integer count = counts.get(userId);
+            // 조회 도중 탈퇴한 사용자는 제외
+            if (member == null || count == null) {
+                continue;
             }
-        });
+            rankings.add(new RankingResponseDTO(member.id(), member.nickname(), member.profileImage(),
+                    member.code(), count, userId.equals(currentUser.getId())));
+        }
+
+        rankings.sort(Comparator.comparingInt(RankingResponseDTO::getRecordCount).reversed()
+                .thenComparing(RankingResponseDTO::getId));
 
         return rankings;
     }
+
+    // 집계 행이 아직 없으면 이번 달만 허용
+    private YearMonth firstMonth() {
+        YearMonth cached = firstMonth;
+        if (cached != null) {
+            return cached;
+        }
+        return rankingRepository.findFirstMonth()
+                .map(month -> firstMonth = month)
+                .orElseGet(YearMonth::now);
+    }
+
+    // 진행 중인(마감되지 않은) 월은 인메모리 보드와 친구 목록의 교집합
+    private Map<Long, Integer> findLiveCounts(YearMonth month, List<Long> userIds) {
+        Map<Long, Integer> board = leaderboardRepository.getOrLoad(month,
+                () -> monthlyStatWriter.loadMonthlyCounts(month.getYear(), month.getMonthValue()));
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Long userId : userIds) {
+            Integer count = board.get(userId);
+            if (count != null) {
+                counts.put(userId, count);
+            }
+        }
+        return counts;
+    }
 }
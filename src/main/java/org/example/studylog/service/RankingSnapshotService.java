@@ -0,0 +1,97 @@
+package org.example.studylog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.repository.MonthlyRankingSnapshotRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 지난 달 랭킹 스냅샷 (월 마감 후에는 user_monthly_stat 대신 스냅샷에서 조회)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingSnapshotService {
+
+    private final MonthlyRankingSnapshotRepository snapshotRepository;
+
+    // 마감이 확인된 월 (마감된 월은 다시 열리지 않으므로 계속 사용)
+    // 아직 마감되지 않은 월은 스냅샷 작업이 끝나면 마감되므로 저장하지 않고 매번 확인
+    private final Set<YearMonth> closedMonths = ConcurrentHashMap.newKeySet();
+
+    @Transactional
+    public void closeMonth(YearMonth month) {
+        int copied = snapshotRepository.copyFromMonthlyStat(month.getYear(), month.getMonthValue());
+        snapshotRepository.markClosed(month.getYear(), month.getMonthValue());
+        // 롤백되면 마감되지 않은 월이므로 커밋 후에 저장
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                closedMonths.add(month);
+            }
+        });
+        log.info("월 랭킹 스냅샷 생성 완료: month={}, 사용자 수={}", month, copied);
+    }
+
+    // 이번 달 이후는 항상 열려 있음
+    public boolean isClosed(YearMonth month) {
+        if (!month.isBefore(YearMonth.now())) {
+            return false;
+        }
+        if (closedMonths.contains(month)) {
+            return true;
+        }
+        boolean closed = snapshotRepository.isClosed(month.getYear(), month.getMonthValue());
+        if (closed) {
+            closedMonths.add(month);
+        }
+        return closed;
+    }
+
+    // 집계 행이 있지만 마감되지 않은 지난 월 (오래된 순)
+    public List<YearMonth> findUnclosedMonthsBefore(YearMonth month) {
+        List<Object[]> rows = snapshotRepository.findUnclosedMonthsBefore(month.getYear(), month.getMonthValue());
+
+        List<YearMonth> months = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            months.add(YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue()));
+        }
+        return months;
+    }
+
+    public Map<Long, Integer> findCounts(YearMonth month, Collection<Long> userIds) {
+        List<Object[]> rows = snapshotRepository.findCounts(month.getYear(), month.getMonthValue(), userIds);
+
+        Map<Long, Integer> counts = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            counts.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+        }
+        return counts;
+    }
+
+    // 마감된 월의 기록이 뒤늦게 생성/삭제되면 스냅샷도 보정
+    public void applyLateChange(Long userId, YearMonth month, int delta) {
+        if (!isClosed(month)) {
+            return;
+        }
+
+        int updated = delta > 0
+                ? snapshotRepository.increment(userId, month.getYear(), month.getMonthValue())
+                : snapshotRepository.decrement(userId, month.getYear(), month.getMonthValue());
+        if (updated == 0) {
+            log.warn("랭킹 스냅샷에 행이 없거나 recordCount가 이미 0: userId={}, month={}", userId, month);
+        } else {
+            log.info("마감된 월 랭킹 스냅샷 보정: userId={}, month={}, delta={}", userId, month, delta);
+        }
+    }
+}
@@ -2,16 +2,24 @@ package org.example.studylog.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.dto.YearlyStreakResponseDTO;
 import org.example.studylog.entity.user.User;
+import org.example.studylog.repository.StreakRepository;
 import org.example.studylog.repository.StudyRecordRepository;
+import org.example.studylog.repository.UserDailyStatRepository;
 import org.example.studylog.repository.UserRepository;
+import org.example.studylog.repository.YearlyHeatmapRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -21,6 +29,18 @@ public class StreakService {
 
     private final StudyRecordRepository studyRecordRepository;
     private final UserRepository userRepository;
+    private final UserDailyStatRepository userDailyStatRepository;
+    private final YearlyHeatmapRepository yearlyHeatmapRepository;
+    private final StreakRepository streakRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    // 전체 재계산 시 한 번에 처리할 user_id 구간 크기
+    @Value("${streak.recompute.chunk-size:1000}")
+    private int recomputeChunkSize;
+
+    // 끊긴 스트릭 초기화 시 한 번에 갱신할 행 수
+    @Value("${streak.sweep.batch-size:1000}")
+    private int sweepBatchSize;
 
 
 
@@ -36,15 +56,17 @@ public class StreakService {
         int monthInt = Integer.parseInt(month);
         YearMonth yearMonth = YearMonth.of(yearInt, monthInt);
 
-        // 해당 월의 모든 날짜에 대해 기록 개수 조회
+        // 해당 월의 일자별 기록 개수를 한 번의 쿼리로 조회
+        Map<LocalDate, Integer> countPerDay =
+                getRecordCountPerDay(user, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+
         int daysInMonth = yearMonth.lengthOfMonth();
 
         for (int day = 1; day <= daysInMonth; day++) {
-            LocalDate date = LocalDate.of(yearInt, monthInt, day);
-            Long recordCount = studyRecordRepository.countByUserAndCreateDateDate(user, date);
+            LocalDate date = yearMonth.atDay(day);
 
-            // 모든 날짜를 순서대로 LinkedHashMap에 추가
-            streakData.put(date.format(formatter), recordCount.intValue());
+            // 모든 날짜를 순서대로 LinkedHashMap에 추가 (기록이 없는 날은 0)
+            streakData.put(date.format(formatter), countPerDay.getOrDefault(date, 0));
         }
 
         log.info("월별 스트릭 데이터 조회 완료: 사용자={}, {}년 {}월, 총 일수={}",
@@ -52,4 +74,99 @@ public class StreakService {
 
         return streakData;
     }
-}
\ No newline at end of file
+
+    // 기간(from ~ to, 양 끝 포함) 내 기록이 있는 날짜별 기록 개수 조회
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Integer> getRecordCountPerDay(User user, LocalDate from, LocalDate to) {
+        // study_record 대신 일자별 집계 테이블(user_daily_stat)에서 조회
+        List<Object[]> results = userDailyStatRepository.findDailyCounts(user.getId(), from, to);
+
+        Map<LocalDate, Integer> countPerDay = new HashMap<>();
+        for (Object[] result : results) {
+            countPerDay.put((LocalDate) result[0], (Integer) result[1]);
+        }
+        return countPerDay;
+    }
+
+    // 연간(1월 1일 ~ 12월 31일) 일자별 기록 수 조회, 캐시에 없으면 일자별 집계 테이블에서 생성
+    public YearlyStreakResponseDTO getYearlyStreakData(User user, int year) {
+        log.info("연간 스트릭 데이터 조회 시작: 사용자={}, {}년", user.getOauthId(), year);
+
+        short[] counts = yearlyHeatmapRepository.getOrLoad(user.getId(), year,
+                () -> loadYearlyCounts(user, year));
+
+        int totalCount = 0;
+        int activeDays = 0;
+        for (short count : counts) {
+            totalCount += count;
+            if (count > 0) {
+                activeDays++;
+            }
+        }
+
+        return YearlyStreakResponseDTO.builder()
+                .year(year)
+                .startDate(LocalDate.of(year, 1, 1).toString())
+                .recordCountPerDay(counts)
+                .totalCount(totalCount)
+                .activeDays(activeDays)
+                .build();
+    }
+
+    private short[] loadYearlyCounts(User user, int year) {
+        LocalDate firstDay = LocalDate.of(year, 1, 1);
+        short[] counts = new short[Year.of(year).length()];
+
+        getRecordCountPerDay(user, firstDay, firstDay.withDayOfYear(counts.length))
+                .forEach((date, count) ->
+                        counts[date.getDayOfYear() - 1] = (short) Math.min(Short.MAX_VALUE, count));
+
+        log.info("연간 스트릭 캐시 생성: 사용자={}, {}년", user.getOauthId(), year);
+        return counts;
+    }
+
+    // 한 사용자의 현재/최대 스트릭을 기록 날짜 기준으로 재계산 (기록 삭제 후 등)
+    public void recomputeStreak(Long userId) {
+        streakRepository.recomputeStreaks(userId, userId, LocalDate.now());
+        streakRepository.resetStreaksWithoutRecords(userId, userId);
+        log.info("스트릭 재계산 완료: userId={}", userId);
+    }
+
+    // 전체 사용자의 스트릭을 user_id 구간 단위로 나누어 재계산 (구간마다 별도 트랜잭션)
+    public int recomputeAllStreaks() {
+        long maxUserId = streakRepository.findMaxUserId();
+        LocalDate today = LocalDate.now();
+        int updated = 0;
+
+        log.info("전체 스트릭 재계산 시작: maxUserId={}, chunkSize={}", maxUserId, recomputeChunkSize);
+
+        for (long fromUserId = 1; fromUserId <= maxUserId; fromUserId += recomputeChunkSize) {
+            long toUserId = Math.min(fromUserId + recomputeChunkSize - 1, maxUserId);
+            updated += streakRepository.recomputeStreaks(fromUserId, toUserId, today);
+            updated += streakRepository.resetStreaksWithoutRecords(fromUserId, toUserId);
+        }
+
+        // 최대 스트릭이 바뀌었을 수 있으므로 메인 페이지 캐시 전체 무효화
+        if (updated > 0) {
+            cacheInvalidationService.evictAllMainPages();
+        }
+
+        log.info("전체 스트릭 재계산 완료: 갱신된 행={}", updated);
+        return updated;
+    }
+
+    // 어제까지 기록이 없어 끊긴 스트릭의 현재 스트릭을 batch 단위로 0으로 초기화
+    public int sweepBrokenStreaks() {
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        int updated;
+
+        do {
+            updated = streakRepository.resetBrokenStreaks(today, sweepBatchSize);
+            total += updated;
+        } while (updated == sweepBatchSize);
+
+        log.info("끊긴 스트릭 초기화 완료: 초기화된 스트릭={}", total);
+        return total;
+    }
+}
@@ -85,10 +85,8 @@ public class StudyRecordService {
         log.info("기록 삭제 이벤트 발행: USER={}, ID={}", user.getOauthId(), recordId);
         eventPublisher.publishEvent(new RecordEvent(user));
         LocalDate createDate = studyRecord.getCreateDate().toLocalDate();
-        int year = createDate.getYear();
-        int month = createDate.getMonthValue();
-        log.info("기록 삭제 내역을 랭킹 집계 테이블에 반영: USER={}, YEAR={}, MONTH={}", user.getId(), year, month);
-        eventPublisher.publishEvent(new RecordDeletedEvent(user.getId(), year, month));
+        log.info("기록 삭제 내역을 집계 테이블에 반영: USER={}, DATE={}", user.getId(), createDate);
+        eventPublisher.publishEvent(new RecordDeletedEvent(user.getId(), createDate));
 
         log.info("기록 삭제 완료: ID={}", recordId);
     }
@@ -120,8 +118,7 @@ public class StudyRecordService {
         log.info("기록 생성 이벤트 발행: USER={}, ID={}", user.getOauthId(), savedStudyRecord.getId());
         user.incrementRecordCount();
         eventPublisher.publishEvent(new RecordEvent(user));
-        LocalDate now = LocalDate.now();
-        eventPublisher.publishEvent(new RecordCreatedEvent(user.getId(), now.getYear(), now.getMonthValue()));
+        eventPublisher.publishEvent(new RecordCreatedEvent(user.getId(), savedStudyRecord.getCreateDate().toLocalDate()));
         log.info("기록 생성 이벤트 종료: USER={}, ID={}", user.getOauthId(), savedStudyRecord.getId());
 
         // 4. 응답 DTO 생성
@@ -4,12 +4,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.studylog.dto.*;
 import org.example.studylog.entity.user.User;
+import org.example.studylog.event.FriendChangedEvent;
+import org.example.studylog.event.ProfileUpdatedEvent;
 import org.example.studylog.exception.UserNotFoundException;
 import org.example.studylog.repository.FriendRepository;
 import org.example.studylog.repository.RefreshRepository;
 import org.example.studylog.repository.UserRepository;
 import org.example.studylog.service.oauth.ExternalOAuthUnlinkService;
 import org.example.studylog.util.ResponseUtil;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -22,8 +25,10 @@ public class UserService {
     private final UserRepository userRepository;
     private final AwsS3Service awsS3Service;
     private final FriendRepository friendRepository;
+    private final FriendGraphService friendGraphService;
     private final RefreshRepository refreshRepository;
     private final ExternalOAuthUnlinkService externalOAuthUnlinkService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProfileResponseDTO createUserProfile(ProfileCreateRequestDTO request, String oauthId){
@@ -44,6 +49,7 @@ public class UserService {
             user.setProfileCompleted(true);
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(user.getId()));
 
         // 생성된 데이터로 응답 객체 반환
         return ProfileResponseDTO.builder()
@@ -75,6 +81,7 @@ public class UserService {
             String imageUrl = awsS3Service.uploadProfileImage(newImage, user);
             user.setProfileImage(imageUrl);
         }
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(user.getId()));
 
         // 수정된 데이터로 응답 객체 반환
         return ProfileResponseDTO.builder()
@@ -103,7 +110,7 @@ public class UserService {
         // 유저 찾기
         User user = userRepository.findByOauthId(oauthId);
 
-        Long count = friendRepository.countByUser(user);
+        long count = friendGraphService.countFriends(user.getId());
         UserInfoResponseDTO dto = UserInfoResponseDTO.builder()
                 .profileImage(user.getProfileImage())
                 .nickname(user.getNickname())
@@ -130,6 +137,7 @@ public class UserService {
         // 이미지 URL을 DB에 저장
         String backImageUrl = awsS3Service.uploadBackImage(file, user);
         user.setBackImage(backImageUrl);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(user.getId()));
 
         // 응답 생성
         BackgroundDTO.ResponseDTO responseDTO = new BackgroundDTO.ResponseDTO(backImageUrl);
@@ -169,7 +177,14 @@ public class UserService {
             log.error("외부 연동 해제 중 오류(계정 삭제는 계속): {}", e.getMessage(), e);
         }
 
-        // 4. 유저 삭제
+        // 4. 친구 관계 해제 알림 (친구 관계는 유저 삭제 시 CASCADE로 함께 삭제됨)
+        friendRepository.findFriendIdsByUserId(user.getId())
+                .forEach(friendId -> eventPublisher.publishEvent(
+                        new FriendChangedEvent(user.getId(), friendId, FriendChangedEvent.ActionType.DELETE)));
+        // 공유 프로필 링크의 기존 ETag가 더 이상 304를 받지 않도록 함
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(user.getId()));
+
+        // 5. 유저 삭제
         userRepository.delete(user);
 
     }
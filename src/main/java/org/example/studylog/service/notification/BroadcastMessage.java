@@ -0,0 +1,7 @@
+package org.example.studylog.service.notification;
+
+import java.time.LocalDateTime;
+
+// 모든 서버의 모든 연결에 보내는 공지 (JSON으로 직렬화)
+public record BroadcastMessage(String id, String event, String content, LocalDateTime createdAt) {
+}
@@ -0,0 +1,15 @@
+package org.example.studylog.service.notification;
+
+import java.util.List;
+
+// 서버 간 로컬 캐시 무효화 메시지 (JSON으로 직렬화), userIds가 비어 있으면 해당 캐시 전체 무효화
+// origin은 보낸 서버 ID (보낸 서버는 이미 직접 반영했으므로 받은 메시지를 무시)
+public record CacheInvalidationMessage(String origin, CacheType type, List<Long> userIds) {
+
+    public enum CacheType {
+        MAIN_PAGE,
+        FRIEND_GRAPH,
+        USER_SUMMARY,
+        LEADERBOARD
+    }
+}
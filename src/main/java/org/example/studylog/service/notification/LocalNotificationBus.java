@@ -0,0 +1,32 @@
+package org.example.studylog.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 서버가 하나일 때 사용 (같은 JVM의 SSE 연결로만 전송)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.bus.type", havingValue = "local")
+public class LocalNotificationBus implements NotificationBus {
+
+    private final NotificationDispatcher notificationDispatcher;
+    private final SseBroadcaster sseBroadcaster;
+
+    @Override
+    public void publish(NotificationMessage message) {
+        notificationDispatcher.dispatch(message);
+    }
+
+    @Override
+    public void broadcast(BroadcastMessage message) {
+        sseBroadcaster.fanOut(message);
+    }
+
+    // 다른 서버가 없으므로 전파할 필요 없음
+    @Override
+    public void invalidate(CacheInvalidationMessage.CacheType type, List<Long> userIds) {
+    }
+}
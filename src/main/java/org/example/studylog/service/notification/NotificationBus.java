@@ -0,0 +1,17 @@
+package org.example.studylog.service.notification;
+
+import java.util.List;
+
+// 알림을 SSE 연결이 있는 서버로 전달하는 통로
+// notification.bus.type: postgres(기본, 여러 서버) / local(단일 서버)
+public interface NotificationBus {
+
+    // 모든 서버에 알림을 전달하고, 대상 사용자의 SSE 연결을 가진 서버가 전송
+    void publish(NotificationMessage message);
+
+    // 모든 서버에 공지를 전달하고, 각 서버가 자신의 모든 연결로 전송
+    void broadcast(BroadcastMessage message);
+
+    // 다른 서버의 로컬 캐시를 무효화 (보낸 서버의 캐시는 호출하는 쪽에서 직접 무효화)
+    void invalidate(CacheInvalidationMessage.CacheType type, List<Long> userIds);
+}
@@ -0,0 +1,170 @@
+package org.example.studylog.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.dto.notification.NotificationDTO;
+import org.example.studylog.service.NotificationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 짧은 시간 안에 몰린 알림을 사용자/키별로 모았다가 하나로 보냄
+// 알림마다 상태 변화(from -> to)를 함께 받아서, 창이 끝났을 때 처음 상태와 마지막 상태가 같으면
+// (레벨 UP 후 DOWN, 친구 추가 후 삭제 등) 알림을 보내지 않고, 다르면 마지막 알림 하나만 보냄
+// 이벤트가 비동기로 처리되어 순서가 바뀌어 도착할 수 있으므로, 앞뒤로 이어지는 변화만 합침
+// window-ms가 0이면 모으지 않고 바로 보냄
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private final NotificationService notificationService;
+    private final long windowMillis;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final Counter receivedCounter;
+    private final Counter emittedCounter;
+    private final Counter cancelledCounter;
+
+    public NotificationCoalescer(NotificationService notificationService,
+                                 @Value("${notification.coalesce.window-ms:2000}") long windowMillis,
+                                 MeterRegistry meterRegistry) {
+        this.notificationService = notificationService;
+        this.windowMillis = windowMillis;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("notification-coalesce-"));
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        // 종료 시 예약된 flush는 기다리지 않고 shutdown()에서 바로 보냄
+        this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.receivedCounter = Counter.builder("notification.coalesce.received")
+                .register(meterRegistry);
+        this.emittedCounter = Counter.builder("notification.coalesce.emitted")
+                .register(meterRegistry);
+        this.cancelledCounter = Counter.builder("notification.coalesce.cancelled")
+                .register(meterRegistry);
+    }
+
+    // key: 서로 상쇄될 수 있는 알림끼리 같은 값 (예: 레벨 변경 "LEVEL", 친구 변경 "FRIEND:{상대 ID}")
+    // 호출한 쪽의 트랜잭션이 있으면 커밋된 뒤에 반영
+    // afterCommit 안에서 바로 전송하면 sendToClient가 등록하는 afterCommit이 실행되지 않으므로 스케줄러 스레드에서 처리
+    public void submit(Long userId, String oauthId, String key, int fromState, int toState, NotificationDTO dto) {
+        Runnable action = () -> add(new Key(userId, key), oauthId, fromState, toState, dto);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduler.execute(action);
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void add(Key key, String oauthId, int fromState, int toState, NotificationDTO dto) {
+        receivedCounter.increment();
+        if (windowMillis <= 0) {
+            emit(key, oauthId, dto);
+            return;
+        }
+        boolean[] created = new boolean[1];
+        Pending[] detached = new Pending[1];
+        pending.compute(key, (k, current) -> {
+            if (current == null) {
+                created[0] = true;
+                return new Pending(oauthId, fromState, toState, dto);
+            }
+            // 마지막 상태에서 이어지는 변화
+            if (fromState == current.lastState) {
+                current.lastState = toState;
+                current.lastNotification = dto;
+                return current;
+            }
+            // 먼저 일어났지만 늦게 도착한 변화 (마지막 알림은 그대로)
+            if (toState == current.firstState) {
+                current.firstState = fromState;
+                return current;
+            }
+            // 이어지지 않으면 순서를 알 수 없으므로 모으던 알림은 그대로 보내고 새로 모음
+            // (새로 모은 알림은 이미 예약된 flush에서 전송)
+            detached[0] = current;
+            return new Pending(oauthId, fromState, toState, dto);
+        });
+        if (detached[0] != null) {
+            log.debug("이어지지 않는 상태 변화로 모으던 알림 전송: userId={}, key={}", key.userId(), key.key());
+            emitIfChanged(key, detached[0]);
+        }
+        // 창은 첫 알림부터 계산 (계속 알림이 와도 window-ms 안에는 전송됨)
+        if (created[0]) {
+            scheduler.schedule(() -> flush(key), windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(Key key) {
+        Pending done = pending.remove(key);
+        if (done == null) {
+            return;
+        }
+        emitIfChanged(key, done);
+    }
+
+    private void emitIfChanged(Key key, Pending done) {
+        if (done.firstState == done.lastState) {
+            cancelledCounter.increment();
+            log.debug("상쇄된 알림 생략: userId={}, key={}", key.userId(), key.key());
+            return;
+        }
+        emit(key, done.oauthId, done.lastNotification);
+    }
+
+    private void emit(Key key, String oauthId, NotificationDTO dto) {
+        emittedCounter.increment();
+        try {
+            notificationService.sendToClient(key.userId(), oauthId, dto);
+        } catch (Exception e) {
+            log.error("알림 전송 실패: userId={}, key={}", key.userId(), key.key(), e);
+        }
+    }
+
+    // 종료 시 커밋 후 넘겨받은 알림까지 처리한 뒤 모으던 알림을 바로 보냄
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        List<Key> keys = new ArrayList<>(pending.keySet());
+        keys.forEach(this::flush);
+    }
+
+    private record Key(Long userId, String key) {
+    }
+
+    private static class Pending {
+        private final String oauthId;
+        private int firstState;
+        private int lastState;
+        private NotificationDTO lastNotification;
+
+        private Pending(String oauthId, int firstState, int lastState, NotificationDTO lastNotification) {
+            this.oauthId = oauthId;
+            this.firstState = firstState;
+            this.lastState = lastState;
+            this.lastNotification = lastNotification;
+        }
+    }
+}
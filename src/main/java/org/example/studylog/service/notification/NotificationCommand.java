@@ -0,0 +1,7 @@
+package org.example.studylog.service.notification;
+
+import org.example.studylog.entity.notification.NotificationType;
+
+// 알림 저장 대기열에 넣는 요청 (User 엔티티 대신 id만 보관)
+public record NotificationCommand(Long userId, String oauthId, NotificationType type, String content) {
+}
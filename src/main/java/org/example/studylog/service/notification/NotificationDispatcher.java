@@ -0,0 +1,218 @@
+package org.example.studylog.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.dto.notification.NotificationResponseDTO;
+import org.example.studylog.repository.EmitterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 이 서버에 SSE 연결이 있는 사용자에게 알림 전송
+// 연결마다 제한된 대기열을 두고, 한 연결은 한 번에 한 스레드만 전송하므로
+// 느린 클라이언트는 스레드 하나만 붙잡고, 대기열이 넘치면 연결을 끊는다 (재연결 시 Last-Event-ID로 재전송)
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    public static final String NOTIFICATION_NAME = "notification";
+
+    private final EmitterRepository emitterRepository;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacityPerEmitter;
+    private final Map<String, EmitterQueue> queues = new ConcurrentHashMap<>();
+    private final Counter sentCounter;
+    private final Counter droppedCounter;
+
+    public NotificationDispatcher(EmitterRepository emitterRepository,
+                                  @Value("${notification.dispatch.pool-size:4}") int poolSize,
+                                  @Value("${notification.dispatch.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${notification.dispatch.queue-capacity-per-emitter:50}") int queueCapacityPerEmitter,
+                                  MeterRegistry meterRegistry) {
+        this.emitterRepository = emitterRepository;
+        this.queueCapacityPerEmitter = queueCapacityPerEmitter;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("notification-dispatch-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.sentCounter = Counter.builder("notification.dispatch.sent")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.dispatch.dropped")
+                .register(meterRegistry);
+        Gauge.builder("notification.dispatch.pending", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public void dispatch(NotificationMessage message) {
+        // 연결이 없는 사용자의 알림은 DB에만 남김 (다른 서버에 연결이 있거나 재연결 시 Last-Event-ID로 재전송)
+        if (!emitterRepository.hasEmitter(message.oauthId())) {
+            return;
+        }
+        SseDelivery delivery = emitter -> emitter.send(toEvent(message));
+        // 같은 사용자의 모든 탭/기기로 전송
+        emitterRepository.findAllByOauthId(message.oauthId()).forEach((emitterId, emitter) ->
+                enqueue(message.oauthId(), emitterId, emitter, delivery, true));
+    }
+
+    // 이 서버의 모든 연결로 전송하고 대상 연결 수 반환
+    // 공지는 놓쳐도 되므로 대기열이 넘친 연결은 끊지 않고 이번 이벤트만 버림
+    public int broadcast(SseDelivery delivery) {
+        List<EmitterRepository.Connection> connections = emitterRepository.findAll();
+        for (EmitterRepository.Connection connection : connections) {
+            enqueue(connection.oauthId(), connection.emitterId(), connection.emitter(), delivery, false);
+        }
+        return connections.size();
+    }
+
+    // 연결 하나로 전송 (heartbeat ping 등 놓쳐도 되는 이벤트라 대기열이 넘치면 연결을 끊지 않고 이번 이벤트만 버림)
+    public void send(String oauthId, String emitterId, SseEmitter emitter, SseDelivery delivery) {
+        enqueue(oauthId, emitterId, emitter, delivery, false);
+    }
+
+    // 연결이 끝나면 대기 중인 알림도 버림
+    public void release(String emitterId) {
+        EmitterQueue queue = queues.remove(emitterId);
+        if (queue != null) {
+            dropPending(queue);
+        }
+    }
+
+    // 알림 id를 이벤트 id로 사용 (클라이언트가 재연결 시 Last-Event-ID로 보냄)
+    public static SseEmitter.SseEventBuilder toEvent(NotificationMessage message) {
+        NotificationResponseDTO resDTO = NotificationResponseDTO.builder()
+                .type(message.type())
+                .content(message.content()).build();
+        return SseEmitter.event()
+                .id(String.valueOf(message.id()))
+                .name(NOTIFICATION_NAME)
+                .data(resDTO);
+    }
+
+    private void enqueue(String oauthId, String emitterId, SseEmitter emitter,
+                         SseDelivery delivery, boolean closeOnOverflow) {
+        EmitterQueue queue = queues.computeIfAbsent(emitterId, id -> new EmitterQueue(oauthId, emitterId, emitter));
+        boolean schedule;
+        synchronized (queue) {
+            if (queue.pending.size() >= queueCapacityPerEmitter) {
+                droppedCounter.increment();
+                delivery.onDropped();
+                if (closeOnOverflow) {
+                    // 클라이언트가 받는 속도보다 알림이 빨리 쌓임
+                    log.warn("알림 대기열 가득 참, 연결 종료: oauthId={}, emitterId={}", oauthId, emitterId);
+                    close(queue);
+                }
+                return;
+            }
+            queue.pending.add(delivery);
+            schedule = !queue.scheduled;
+            queue.scheduled = true;
+        }
+        if (!schedule) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(queue));
+        } catch (RejectedExecutionException e) {
+            // 놓쳐도 되는 이벤트만 대기 중이면 그 이벤트만 버리고, 알림이 함께 대기 중이면 연결을 끊어 재연결 시 재전송
+            if (!closeOnOverflow && dropIfOnlyPending(queue, delivery)) {
+                log.debug("알림 전송 스레드 대기열 가득 참, 이벤트 생략: oauthId={}, emitterId={}", oauthId, emitterId);
+                return;
+            }
+            log.warn("알림 전송 스레드 대기열 가득 참, 연결 종료: oauthId={}, emitterId={}", oauthId, emitterId);
+            close(queue);
+        }
+    }
+
+    // 대기열에 이 이벤트만 있으면 꺼내서 버림
+    private boolean dropIfOnlyPending(EmitterQueue queue, SseDelivery delivery) {
+        synchronized (queue) {
+            if (queue.pending.size() != 1 || queue.pending.peek() != delivery) {
+                return false;
+            }
+            queue.pending.clear();
+            queue.scheduled = false;
+        }
+        droppedCounter.increment();
+        delivery.onDropped();
+        return true;
+    }
+
+    private void drain(EmitterQueue queue) {
+        while (true) {
+            SseDelivery delivery;
+            synchronized (queue) {
+                delivery = queue.pending.poll();
+                if (delivery == null) {
+                    queue.scheduled = false;
+                    return;
+                }
+            }
+            try {
+                delivery.sendTo(queue.emitter);
+                sentCounter.increment();
+                delivery.onSent();
+            } catch (IOException | IllegalStateException e) {
+                // 전송 실패하면 해당 emitter만 삭제
+                droppedCounter.increment();
+                delivery.onDropped();
+                queue.emitter.completeWithError(e);
+                close(queue);
+                return;
+            }
+        }
+    }
+
+    private void close(EmitterQueue queue) {
+        dropPending(queue);
+        queues.remove(queue.emitterId, queue);
+        emitterRepository.delete(queue.oauthId, queue.emitterId);
+        queue.emitter.complete();
+    }
+
+    private void dropPending(EmitterQueue queue) {
+        List<SseDelivery> dropped;
+        synchronized (queue) {
+            dropped = new ArrayList<>(queue.pending);
+            queue.pending.clear();
+            queue.scheduled = false;
+        }
+        droppedCounter.increment(dropped.size());
+        dropped.forEach(SseDelivery::onDropped);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class EmitterQueue {
+        private final String oauthId;
+        private final String emitterId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<SseDelivery> pending = new ArrayDeque<>();
+        private boolean scheduled;
+
+        private EmitterQueue(String oauthId, String emitterId, SseEmitter emitter) {
+            this.oauthId = oauthId;
+            this.emitterId = emitterId;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.studylog.service.notification;
+
+// 서버 간 전달되는 알림 (JSON으로 직렬화), id는 SSE 이벤트 id로 사용
+public record NotificationMessage(String oauthId, Long id, String type, String content) {
+}
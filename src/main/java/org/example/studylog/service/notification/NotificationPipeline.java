@@ -0,0 +1,178 @@
+package org.example.studylog.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.repository.custom.NotificationRepositoryCustom.NewNotification;
+import org.example.studylog.repository.custom.NotificationRepositoryImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 알림 저장 파이프라인
+// 호출한 쪽은 제한된 대기열에 넣기만 하고, 저장 스레드가 모아서 한 번의 INSERT로 저장한 뒤 SSE 전송으로 넘김
+// 대기열이 가득 차면 offer-timeout-ms 동안 호출한 쪽을 기다리게 하고, 그래도 자리가 없으면 버림
+@Slf4j
+@Component
+public class NotificationPipeline {
+
+    private final NotificationRepositoryImpl notificationRepository;
+    private final NotificationBus notificationBus;
+    private final BlockingQueue<NotificationCommand> queue;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final long retryDelayMillis;
+    private final Counter writtenCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public NotificationPipeline(NotificationRepositoryImpl notificationRepository,
+                                NotificationBus notificationBus,
+                                @Value("${notification.pipeline.queue-capacity:10000}") int queueCapacity,
+                                @Value("${notification.pipeline.batch-size:200}") int batchSize,
+                                @Value("${notification.pipeline.offer-timeout-ms:100}") long offerTimeoutMillis,
+                                @Value("${notification.pipeline.retry-delay-ms:1000}") long retryDelayMillis,
+                                MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.notificationBus = notificationBus;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.retryDelayMillis = retryDelayMillis;
+        this.writtenCounter = Counter.builder("notification.pipeline.written")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("notification.pipeline.rejected")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.pipeline.failed")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("notification.pipeline.batch.size")
+                .register(meterRegistry);
+        Gauge.builder("notification.pipeline.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "notification-pipeline-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    // 대기열에 넣지 못하면 false
+    public boolean submit(NotificationCommand command) {
+        try {
+            if (queue.offer(command, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCounter.increment();
+        log.error("알림 저장 대기열 가득 참, 알림 버림: userId={}, type={}", command.userId(), command.type());
+        return false;
+    }
+
+    private void writeLoop() {
+        List<NotificationCommand> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationCommand first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 기다리는 동안 쌓인 만큼 한 번에 저장
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    // 종료 중이면 남은 알림까지 저장하고 끝냄
+                    queue.drainTo(batch);
+                    write(batch);
+                    break;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<NotificationCommand> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<NewNotification> rows = batch.stream()
+                .map(command -> new NewNotification(command.userId(), command.type(), command.content()))
+                .toList();
+        List<Long> ids = insertWithRetry(rows);
+        if (ids == null) {
+            failedCounter.increment(batch.size());
+            return;
+        }
+        writtenCounter.increment(ids.size());
+        batchSizeSummary.record(ids.size());
+
+        // 저장(자동 커밋)이 끝난 알림만 SSE 전송으로 넘김
+        for (int i = 0; i < ids.size(); i++) {
+            NotificationCommand command = batch.get(i);
+            try {
+                notificationBus.publish(new NotificationMessage(
+                        command.oauthId(), ids.get(i), command.type().getLabel(), command.content()));
+            } catch (Exception e) {
+                // 알림은 이미 저장되었으므로 실시간 전송 실패는 로그만 남김
+                log.warn("알림 전달 실패: oauthId={}, error={}", command.oauthId(), e.getMessage());
+            }
+        }
+    }
+
+    // DB 일시 장애를 고려해 한 번만 다시 시도
+    // 종료 중 인터럽트로 대기가 끊기면 버리지 않고 대기 없이 다시 시도 (인터럽트 상태는 시도 후 복원)
+    private List<Long> insertWithRetry(List<NewNotification> rows) {
+        try {
+            return notificationRepository.insertAll(rows);
+        } catch (Exception e) {
+            log.warn("알림 일괄 저장 실패, {}ms 후 재시도: count={}, error={}", retryDelayMillis, rows.size(), e.getMessage());
+        }
+        boolean interrupted = false;
+        try {
+            Thread.sleep(retryDelayMillis);
+        } catch (InterruptedException e) {
+            if (running) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            interrupted = true;
+        }
+        try {
+            return notificationRepository.insertAll(rows);
+        } catch (Exception e) {
+            log.error("알림 일괄 저장 재시도 실패, 알림 버림: count={}", rows.size(), e);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
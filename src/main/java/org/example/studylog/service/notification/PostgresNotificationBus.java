@@ -0,0 +1,276 @@
+package org.example.studylog.service.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// PostgreSQL LISTEN/NOTIFY 기반 알림 전달
+// 모든 서버가 같은 채널을 LISTEN하고, 알림을 받은 서버 중 대상 사용자의 SSE 연결이 있는 서버만 전송
+// 서버별 로컬 캐시 무효화도 별도 채널로 전파
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.bus.type", havingValue = "postgres", matchIfMissing = true)
+public class PostgresNotificationBus implements NotificationBus {
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+    // NOTIFY 페이로드는 8000바이트로 제한되므로 무효화 대상 ID를 나누어 발행
+    private static final int INVALIDATION_CHUNK_SIZE = 500;
+
+    private final DataSource dataSource;
+    // LISTEN 전용 연결은 풀을 거치지 않고 직접 생성 (풀의 maxLifetime, 유휴 검사와 무관하게 유지되고 풀 크기를 차지하지 않음)
+    private final DataSource listenDataSource;
+    private final ObjectMapper objectMapper;
+    private final NotificationDispatcher notificationDispatcher;
+    private final SseBroadcaster sseBroadcaster;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String channel;
+    private final String broadcastChannel;
+    private final String cacheChannel;
+    // 자신이 보낸 캐시 무효화 메시지를 구분하기 위한 서버 ID
+    private final String nodeId = UUID.randomUUID().toString();
+    private final int pollTimeoutMillis;
+    private final long reconnectDelayMillis;
+    private final long healthCheckIntervalMillis;
+    private final int healthCheckTimeoutMillis;
+
+    private final ThreadPoolExecutor publishExecutor;
+
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listenerThread;
+
+    public PostgresNotificationBus(DataSource dataSource,
+                                   DataSourceProperties dataSourceProperties,
+                                   ObjectMapper objectMapper,
+                                   NotificationDispatcher notificationDispatcher,
+                                   SseBroadcaster sseBroadcaster,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${notification.bus.channel:studylog_notification}") String channel,
+                                   @Value("${notification.bus.poll-timeout-ms:500}") int pollTimeoutMillis,
+                                   @Value("${notification.bus.reconnect-delay-ms:3000}") long reconnectDelayMillis,
+                                   @Value("${notification.bus.health-check-interval-ms:30000}") long healthCheckIntervalMillis,
+                                   @Value("${notification.bus.health-check-timeout-ms:5000}") int healthCheckTimeoutMillis,
+                                   @Value("${notification.bus.publish-queue-capacity:1000}") int publishQueueCapacity) {
+        // LISTEN은 파라미터 바인딩이 안 되므로 채널 이름을 제한
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("잘못된 알림 채널 이름입니다: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.listenDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        this.objectMapper = objectMapper;
+        this.notificationDispatcher = notificationDispatcher;
+        this.sseBroadcaster = sseBroadcaster;
+        this.eventPublisher = eventPublisher;
+        this.channel = channel;
+        this.broadcastChannel = channel + "_broadcast";
+        this.cacheChannel = channel + "_cache";
+        this.pollTimeoutMillis = pollTimeoutMillis;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+        this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+        this.healthCheckTimeoutMillis = healthCheckTimeoutMillis;
+        this.publishExecutor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(publishQueueCapacity),
+                new CustomizableThreadFactory("notification-bus-publish-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "notification-bus-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        publishExecutor.shutdown();
+        listenerThread.interrupt();
+        closeQuietly(listenConnection);
+    }
+
+    // 커밋 직후(afterCommit)에는 아직 트랜잭션 연결이 스레드에 묶여 있어서 그 연결로 NOTIFY를 실행하면 커밋되지 않음
+    // 별도 스레드에서 실행하고, 요청 스레드는 기다리지 않음
+    @Override
+    public void publish(NotificationMessage message) {
+        try {
+            publishExecutor.execute(() -> notify(message));
+        } catch (RejectedExecutionException e) {
+            log.warn("알림 발행 대기열 가득 참, 실시간 전송 생략: oauthId={}", message.oauthId());
+        }
+    }
+
+    @Override
+    public void broadcast(BroadcastMessage message) {
+        try {
+            publishExecutor.execute(() -> notify(broadcastChannel, message, "broadcastId=" + message.id()));
+        } catch (RejectedExecutionException e) {
+            log.warn("알림 발행 대기열 가득 참, 공지 전송 생략: broadcastId={}", message.id());
+        }
+    }
+
+    @Override
+    public void invalidate(CacheInvalidationMessage.CacheType type, List<Long> userIds) {
+        int from = 0;
+        do {
+            List<Long> chunk = List.copyOf(userIds.subList(from, Math.min(from + INVALIDATION_CHUNK_SIZE, userIds.size())));
+            CacheInvalidationMessage message = new CacheInvalidationMessage(nodeId, type, chunk);
+            try {
+                publishExecutor.execute(() -> notify(cacheChannel, message, "cache=" + type));
+            } catch (RejectedExecutionException e) {
+                log.warn("알림 발행 대기열 가득 참, 캐시 무효화 전파 생략: cache={}, count={}", type, chunk.size());
+            }
+            from += INVALIDATION_CHUNK_SIZE;
+        } while (from < userIds.size());
+    }
+
+    private void notify(NotificationMessage message) {
+        notify(channel, message, "oauthId=" + message.oauthId());
+    }
+
+    // 스레드에 묶인 트랜잭션과 무관하게 풀에서 직접 받은 연결을 autocommit으로 사용해 NOTIFY가 즉시 커밋되도록 함
+    private void notify(String targetChannel, Object message, String target) {
+        try {
+            String payload = objectMapper.writeValueAsString(message);
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                    statement.setString(1, targetChannel);
+                    statement.setString(2, payload);
+                    statement.execute();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.error("알림 직렬화 실패: {}", target, e);
+        } catch (Exception e) {
+            log.warn("알림 발행 실패: {}, error={}", target, e.getMessage());
+        }
+    }
+
+    // 전용 연결 하나로 LISTEN, 연결이 끊기면 잠시 후 다시 연결
+    // 응답 없이 끊긴 연결(half-open)은 알림을 기다리는 것만으로는 알 수 없으므로 주기적으로 SELECT 1 실행
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = listenDataSource.getConnection()) {
+                listenConnection = connection;
+                // 응답이 오지 않는 읽기가 무한히 기다리지 않도록 소켓 타임아웃 설정 (알림 대기 중에는 poll-timeout-ms가 우선)
+                connection.setNetworkTimeout(Runnable::run, healthCheckTimeoutMillis);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                    statement.execute("LISTEN " + broadcastChannel);
+                    statement.execute("LISTEN " + cacheChannel);
+                }
+                log.info("알림 채널 LISTEN 시작: channel={}", channel);
+                // 끊겨 있는 동안 놓친 무효화가 있을 수 있으므로 로컬 캐시 전체 무효화
+                if (reconnecting) {
+                    invalidateAllLocally();
+                }
+                reconnecting = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                long lastCheckNanos = System.nanoTime();
+                while (running) {
+                    if (System.nanoTime() - lastCheckNanos >= TimeUnit.MILLISECONDS.toNanos(healthCheckIntervalMillis)) {
+                        checkConnection(connection);
+                        lastCheckNanos = System.nanoTime();
+                    }
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getName(), notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("알림 채널 연결 끊김, {}ms 후 재연결: {}", reconnectDelayMillis, e.getMessage());
+                sleepBeforeReconnect();
+            }
+        }
+        log.info("알림 채널 LISTEN 종료: channel={}", channel);
+    }
+
+    // 응답이 health-check-timeout-ms 안에 오지 않으면 SQLException으로 재연결
+    private void checkConnection(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+    }
+
+    private void handle(String name, String payload) {
+        try {
+            if (cacheChannel.equals(name)) {
+                CacheInvalidationMessage message = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+                if (!nodeId.equals(message.origin())) {
+                    eventPublisher.publishEvent(message);
+                }
+                return;
+            }
+            if (broadcastChannel.equals(name)) {
+                sseBroadcaster.fanOut(objectMapper.readValue(payload, BroadcastMessage.class));
+                return;
+            }
+            notificationDispatcher.dispatch(objectMapper.readValue(payload, NotificationMessage.class));
+        } catch (Exception e) {
+            log.error("알림 메시지 처리 실패: payload={}", payload, e);
+        }
+    }
+
+    private void invalidateAllLocally() {
+        for (CacheInvalidationMessage.CacheType type : CacheInvalidationMessage.CacheType.values()) {
+            eventPublisher.publishEvent(new CacheInvalidationMessage(nodeId, type, List.of()));
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("알림 채널 연결 종료 중 오류: {}", e.getMessage());
+        }
+    }
+}
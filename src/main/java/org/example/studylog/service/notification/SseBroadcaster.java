@@ -0,0 +1,140 @@
+package org.example.studylog.service.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.dto.notification.BroadcastDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 이 서버의 모든 SSE 연결로 공지 전송
+// 이벤트를 SSE 형식의 바이트 하나로 한 번만 직렬화하고, 모든 연결이 같은 바이트를 그대로 씀
+// 전송은 NotificationDispatcher의 연결별 대기열을 거치므로 느린 연결은 그 연결의 공지만 버려짐
+@Slf4j
+@Component
+public class SseBroadcaster {
+
+    private final NotificationDispatcher notificationDispatcher;
+    private final ObjectMapper objectMapper;
+    private final int maxStats;
+    private final Map<String, Stats> recentStats;
+
+    public SseBroadcaster(NotificationDispatcher notificationDispatcher,
+                          ObjectMapper objectMapper,
+                          @Value("${notification.broadcast.stats.max-size:50}") int maxStats) {
+        this.notificationDispatcher = notificationDispatcher;
+        this.objectMapper = objectMapper;
+        this.maxStats = maxStats;
+        this.recentStats = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Stats> eldest) {
+                return size() > SseBroadcaster.this.maxStats;
+            }
+        };
+    }
+
+    public Stats fanOut(BroadcastMessage message) {
+        Frame frame;
+        try {
+            frame = Frame.of(message.event(), objectMapper.writeValueAsBytes(
+                    new BroadcastDTO.MessageDTO(message.content(), message.createdAt())));
+        } catch (JsonProcessingException e) {
+            log.error("공지 직렬화 실패: broadcastId={}", message.id(), e);
+            return null;
+        }
+
+        Stats stats = new Stats(message.id());
+        synchronized (recentStats) {
+            recentStats.put(message.id(), stats);
+        }
+        stats.targeted = notificationDispatcher.broadcast(new FrameDelivery(frame, stats));
+        log.info("공지 전송 시작: broadcastId={}, event={}, 대상 연결 수={}", message.id(), message.event(), stats.targeted);
+        return stats;
+    }
+
+    // 이 서버에서의 전송 결과 (최근 max-size개만 보관)
+    public Stats findStats(String broadcastId) {
+        synchronized (recentStats) {
+            return recentStats.get(broadcastId);
+        }
+    }
+
+    // 한 번 만든 뒤 바뀌지 않는 SSE 프레임
+    // id는 넣지 않음 (넣으면 브라우저의 Last-Event-ID가 바뀌어 알림 재전송 기준이 틀어짐)
+    public static final class Frame {
+        private final Set<DataWithMediaType> items;
+
+        private Frame(byte[] bytes) {
+            this.items = Set.of(new DataWithMediaType(bytes, MediaType.TEXT_EVENT_STREAM));
+        }
+
+        public static Frame of(String event, byte[] json) {
+            byte[] head = ("event:" + event + "\ndata:").getBytes(StandardCharsets.UTF_8);
+            byte[] tail = "\n\n".getBytes(StandardCharsets.UTF_8);
+            byte[] bytes = new byte[head.length + json.length + tail.length];
+            System.arraycopy(head, 0, bytes, 0, head.length);
+            System.arraycopy(json, 0, bytes, head.length, json.length);
+            System.arraycopy(tail, 0, bytes, head.length + json.length, tail.length);
+            return new Frame(bytes);
+        }
+
+        private void writeTo(SseEmitter emitter) throws IOException {
+            emitter.send(items);
+        }
+    }
+
+    public static final class Stats {
+        private final String broadcastId;
+        private volatile int targeted;
+        private final AtomicInteger sent = new AtomicInteger();
+        private final AtomicInteger dropped = new AtomicInteger();
+
+        private Stats(String broadcastId) {
+            this.broadcastId = broadcastId;
+        }
+
+        public String getBroadcastId() {
+            return broadcastId;
+        }
+
+        public int getTargeted() {
+            return targeted;
+        }
+
+        public int getSent() {
+            return sent.get();
+        }
+
+        public int getDropped() {
+            return dropped.get();
+        }
+    }
+
+    private record FrameDelivery(Frame frame, Stats stats) implements SseDelivery {
+
+        @Override
+        public void sendTo(SseEmitter emitter) throws IOException {
+            frame.writeTo(emitter);
+        }
+
+        @Override
+        public void onSent() {
+            stats.sent.incrementAndGet();
+        }
+
+        @Override
+        public void onDropped() {
+            stats.dropped.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.studylog.service.notification;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+// 연결 하나에 보낼 SSE 이벤트 (NotificationDispatcher의 연결별 대기열에 들어감)
+public interface SseDelivery {
+
+    void sendTo(SseEmitter emitter) throws IOException;
+
+    default void onSent() {
+    }
+
+    // 대기열이 넘치거나 전송에 실패해서 보내지 못함
+    default void onDropped() {
+    }
+}
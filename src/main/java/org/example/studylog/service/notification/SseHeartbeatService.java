@@ -0,0 +1,103 @@
+package org.example.studylog.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studylog.repository.EmitterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// SSE 연결 유지용 heartbeat
+// 연결을 wheel-size개 칸에 나눠 담고 tick마다 한 칸씩만 ping을 보내서, 전체 연결에 한꺼번에 보내지 않음
+// (한 연결은 tick-ms * wheel-size 간격으로 ping을 받음), ping 전송이 실패한 연결은 정리
+// ping은 알림과 같은 연결별 대기열(NotificationDispatcher)로 보내므로, 막힌 연결은 자기 대기열만 붙잡고 ping이 넘치면 버려짐
+@Slf4j
+@Service
+public class SseHeartbeatService {
+
+    private static final String PING_COMMENT = "ping";
+
+    private final NotificationDispatcher notificationDispatcher;
+    private final List<Map<String, Target>> wheel;
+    private final Counter reapedCounter;
+    private final Timer sendTimer;
+    private int cursor;
+
+    public SseHeartbeatService(EmitterRepository emitterRepository,
+                               NotificationDispatcher notificationDispatcher,
+                               @Value("${notification.heartbeat.wheel-size:30}") int wheelSize,
+                               MeterRegistry meterRegistry) {
+        this.notificationDispatcher = notificationDispatcher;
+        this.wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(new ConcurrentHashMap<>());
+        }
+        this.reapedCounter = Counter.builder("notification.emitters.reaped")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("notification.heartbeat.send")
+                .register(meterRegistry);
+        Gauge.builder("notification.emitters.live", emitterRepository, EmitterRepository::count)
+                .register(meterRegistry);
+    }
+
+    public void register(String oauthId, String emitterId, SseEmitter emitter) {
+        slotOf(emitterId).put(emitterId, new Target(oauthId, emitterId, emitter));
+    }
+
+    public void unregister(String emitterId) {
+        slotOf(emitterId).remove(emitterId);
+    }
+
+    // 스케줄러에서 호출, 현재 칸의 연결마다 ping을 대기열에 넣음 (전송은 알림 전송 스레드에서 함)
+    public void tick() {
+        Map<String, Target> slot;
+        synchronized (this) {
+            slot = wheel.get(cursor);
+            cursor = (cursor + 1) % wheel.size();
+        }
+        for (Target target : slot.values()) {
+            notificationDispatcher.send(target.oauthId(), target.emitterId(), target.emitter(), new Ping(target));
+        }
+    }
+
+    private Map<String, Target> slotOf(String emitterId) {
+        return wheel.get(Math.floorMod(emitterId.hashCode(), wheel.size()));
+    }
+
+    private record Target(String oauthId, String emitterId, SseEmitter emitter) {
+    }
+
+    // 전송이 실패하면 NotificationDispatcher가 연결을 끊고 저장소에서 삭제하므로, 여기서는 wheel에서만 제거
+    private class Ping implements SseDelivery {
+        private final Target target;
+
+        private Ping(Target target) {
+            this.target = target;
+        }
+
+        @Override
+        public void sendTo(SseEmitter emitter) throws IOException {
+            long start = System.nanoTime();
+            try {
+                emitter.send(SseEmitter.event().comment(PING_COMMENT));
+                sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } catch (IOException | IllegalStateException e) {
+                // 프록시 등에서 끊긴 연결
+                log.info("끊긴 SSE 연결 정리: oauthId={}, emitterId={}", target.oauthId(), target.emitterId());
+                reapedCounter.increment();
+                unregister(target.emitterId());
+                throw e;
+            }
+        }
+    }
+}
@@ -1,11 +1,30 @@
 package org.example.studylog.util;
 
 import org.example.studylog.dto.ResponseDTO;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Instant;
+
 public class ResponseUtil {
     public static <T> ResponseEntity<ResponseDTO<T>> buildResponse(int statusCode, String message, T data) {
         return ResponseEntity.status(statusCode)
                 .body(new ResponseDTO<>(statusCode, message, data));
     }
+
+    public static <T> ResponseEntity<ResponseDTO<T>> buildResponse(int statusCode, String message, T data, String eTag) {
+        return ResponseEntity.status(statusCode)
+                .eTag(eTag)
+                .body(new ResponseDTO<>(statusCode, message, data));
+    }
+
+    // 조회자마다 응답이 다를 수 있으므로 공유 캐시에는 저장하지 않고 매번 재검증하도록 함
+    public static <T> ResponseEntity<ResponseDTO<T>> buildResponse(int statusCode, String message, T data,
+                                                                   String eTag, Instant lastModified) {
+        return ResponseEntity.status(statusCode)
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new ResponseDTO<>(statusCode, message, data));
+    }
 }
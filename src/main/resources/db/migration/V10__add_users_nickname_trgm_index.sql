@@ -0,0 +1,5 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 친구 닉네임 부분 검색 (lower(nickname) LIKE '%검색어%')
+CREATE INDEX IF NOT EXISTS idx_users_nickname_trgm
+    ON users USING gin (lower(nickname) gin_trgm_ops);
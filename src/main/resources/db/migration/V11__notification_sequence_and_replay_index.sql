@@ -0,0 +1,7 @@
+-- 알림 id를 SSE 이벤트 id로 사용: 서버별 50개 단위 선할당을 없애서 저장 순서대로 증가하도록 함
+-- (기존 선할당 구간의 상한보다 큰 값부터 발급되므로 id 충돌 없음)
+ALTER SEQUENCE IF EXISTS notification_seq INCREMENT BY 1;
+
+-- Last-Event-ID 이후 알림 재전송 조회용
+CREATE INDEX IF NOT EXISTS idx_notification_user_id_id
+    ON notification (user_id, id);
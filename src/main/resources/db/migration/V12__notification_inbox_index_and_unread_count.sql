@@ -0,0 +1,21 @@
+-- 알림 목록 커서 페이지 조회용 (생성 시각, ID 최신순)
+CREATE INDEX IF NOT EXISTS idx_notification_user_created_at_id
+    ON notification (user_id, created_at DESC, id DESC);
+
+-- 모두 읽음 처리 시 안 읽은 알림만 찾도록
+CREATE INDEX IF NOT EXISTS idx_notification_user_unread
+    ON notification (user_id)
+    WHERE is_read = false;
+
+-- 사용자별 안 읽은 알림 수 (알림 저장/읽음 처리 시 함께 갱신, 뱃지 조회 시 알림 테이블을 세지 않음)
+CREATE TABLE IF NOT EXISTS notification_unread_count (
+    user_id      BIGINT PRIMARY KEY REFERENCES users (id) ON DELETE CASCADE,
+    unread_count INTEGER NOT NULL DEFAULT 0
+);
+
+INSERT INTO notification_unread_count (user_id, unread_count)
+SELECT user_id, COUNT(*)
+FROM notification
+WHERE is_read = false
+GROUP BY user_id
+ON CONFLICT (user_id) DO UPDATE SET unread_count = EXCLUDED.unread_count;
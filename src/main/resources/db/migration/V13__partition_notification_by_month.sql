@@ -0,0 +1,49 @@
+-- 알림 테이블을 created_at 기준 월별 파티션으로 전환 (보관 기간이 지난 달은 파티션째 분리/삭제)
+-- 파티션 키가 기본 키에 포함되어야 하므로 기본 키는 (id, created_at)
+ALTER TABLE notification RENAME TO notification_legacy;
+ALTER TABLE notification_legacy RENAME CONSTRAINT notification_pkey TO notification_legacy_pkey;
+DROP INDEX IF EXISTS idx_notification_user_id_id;
+DROP INDEX IF EXISTS idx_notification_user_created_at_id;
+DROP INDEX IF EXISTS idx_notification_user_unread;
+
+CREATE TABLE notification (
+    id         BIGINT       NOT NULL,
+    user_id    BIGINT REFERENCES users (id) ON DELETE CASCADE,
+    type       VARCHAR(255),
+    content    VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    is_read    BOOLEAN      NOT NULL DEFAULT false,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 기존 알림의 첫 달부터 3개월 뒤까지 파티션 생성 (이후 달은 NotificationRetentionScheduler가 미리 생성)
+DO $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM notification_legacy), now()));
+    last_month  TIMESTAMP := date_trunc('month', now()) + INTERVAL '3 months';
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF notification FOR VALUES FROM (%L) TO (%L)',
+                       'notification_p' || to_char(month_start, 'YYYYMM'),
+                       month_start, month_start + INTERVAL '1 month');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+-- 미리 만든 파티션 범위를 벗어난 알림이 저장 실패하지 않도록
+CREATE TABLE notification_default PARTITION OF notification DEFAULT;
+
+INSERT INTO notification (id, user_id, type, content, created_at, is_read)
+SELECT id, user_id, type, content, COALESCE(created_at, now()), is_read
+FROM notification_legacy;
+
+DROP TABLE notification_legacy;
+
+-- V11, V12 인덱스를 파티션 테이블에 다시 생성
+CREATE INDEX idx_notification_user_id_id
+    ON notification (user_id, id);
+CREATE INDEX idx_notification_user_created_at_id
+    ON notification (user_id, created_at DESC, id DESC);
+CREATE INDEX idx_notification_user_unread
+    ON notification (user_id)
+    WHERE is_read = false;
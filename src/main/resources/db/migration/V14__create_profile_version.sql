@@ -0,0 +1,7 @@
+-- 공유 프로필(/main?code=) ETag용 사용자별 버전 (모든 서버가 같은 값을 읽도록 DB에 저장)
+-- 처음 조회될 때 생성되고, 프로필 화면에 보이는 데이터가 바뀔 때마다 version 증가
+CREATE TABLE IF NOT EXISTS profile_version (
+    user_id    BIGINT PRIMARY KEY REFERENCES users (id) ON DELETE CASCADE,
+    version    BIGINT       NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP(6) NOT NULL
+);
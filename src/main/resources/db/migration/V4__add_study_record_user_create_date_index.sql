@@ -0,0 +1,3 @@
+-- 스트릭 캘린더의 기간 조회(user_id + create_date 범위)를 위한 복합 인덱스
+CREATE INDEX IF NOT EXISTS idx_study_record_user_create_date
+    ON study_record (user_id, create_date);
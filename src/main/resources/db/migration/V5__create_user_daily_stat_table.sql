@@ -0,0 +1,9 @@
+CREATE TABLE user_daily_stat (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    record_count INT NOT NULL DEFAULT 0,
+    CONSTRAINT uq_user_daily_stat UNIQUE (user_id, stat_date),
+    CONSTRAINT fk_user_daily_stat_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE
+);
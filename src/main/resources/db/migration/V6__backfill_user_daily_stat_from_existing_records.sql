@@ -0,0 +1,9 @@
+INSERT INTO user_daily_stat (user_id, stat_date, record_count)
+SELECT
+    r.user_id,
+    CAST(r.create_date AS DATE) AS stat_date,
+    COUNT(*) AS record_count
+FROM study_record r
+GROUP BY r.user_id, stat_date
+ON CONFLICT (user_id, stat_date)
+    DO UPDATE SET record_count = EXCLUDED.record_count;
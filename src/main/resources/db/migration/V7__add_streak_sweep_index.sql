@@ -0,0 +1,4 @@
+-- 끊긴 스트릭 일괄 초기화 시 현재 스트릭이 남아 있는 행만 빠르게 찾기 위한 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_streak_active_last_record_date
+    ON streak (last_record_date)
+    WHERE current_streak > 0;
@@ -0,0 +1,18 @@
+CREATE TABLE monthly_ranking_snapshot (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    year INT NOT NULL,
+    month INT NOT NULL,
+    record_count INT NOT NULL DEFAULT 0,
+    CONSTRAINT uq_monthly_ranking_snapshot UNIQUE (year, month, user_id),
+    CONSTRAINT fk_monthly_ranking_snapshot_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- 스냅샷 생성이 끝난(마감된) 월
+CREATE TABLE ranking_month_close (
+    year INT NOT NULL,
+    month INT NOT NULL,
+    closed_at TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (year, month)
+);
@@ -0,0 +1,9 @@
+-- 동시에 친구 추가를 여러 번 눌러 생긴 중복 행 정리 (가장 먼저 생성된 행만 남김)
+DELETE FROM friend a
+    USING friend b
+WHERE a.user_id = b.user_id
+  AND a.friend_id = b.friend_id
+  AND a.id > b.id;
+
+ALTER TABLE friend
+    ADD CONSTRAINT uq_friend_user_friend UNIQUE (user_id, friend_id);
@@ -0,0 +1,77 @@
+package org.example.studylog.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalLeaderboardRepositoryTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 3);
+
+    private final GlobalLeaderboardRepository globalLeaderboardRepository = new GlobalLeaderboardRepository();
+
+    @Test
+    @DisplayName("DB에 쓰는 중에 조회한 결과는 버리고 다시 조회해, 이미 반영된 변경을 두 번 세지 않음")
+    void rebuild_LoaderAlreadySawWrite_ReloadedNotCountedTwice() {
+        // Given: user_monthly_stat에 +1을 쓰는 중
+        globalLeaderboardRepository.beginChange();
+        AtomicInteger loads = new AtomicInteger();
+
+        // When: 첫 조회에 이미 반영되어 있고(3 -> 4), 조회가 끝난 뒤 delta가 도착
+        globalLeaderboardRepository.rebuild(MONTH, () -> {
+            if (loads.incrementAndGet() == 1) {
+                globalLeaderboardRepository.applyDelta(1L, MONTH, 1);
+            }
+            return Map.of(1L, 4);
+        });
+
+        // Then
+        assertThat(loads).hasValue(2);
+        assertThat(globalLeaderboardRepository.findRank(1L).recordCount()).isEqualTo(4);
+        assertThat(globalLeaderboardRepository.isStale()).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회할 때마다 변경이 생기면 마지막 결과로 구성하고 다시 구성해야 하는 상태로 남김")
+    void rebuild_ChangedOnEveryAttempt_InstalledAsStale() {
+        // When
+        globalLeaderboardRepository.rebuild(MONTH, () -> {
+            globalLeaderboardRepository.beginChange();
+            globalLeaderboardRepository.applyDelta(2L, MONTH, 1);
+            return Map.of(1L, 5);
+        });
+
+        // Then
+        assertThat(globalLeaderboardRepository.getMonth()).isEqualTo(MONTH);
+        assertThat(globalLeaderboardRepository.findRank(1L).recordCount()).isEqualTo(5);
+        assertThat(globalLeaderboardRepository.isStale()).isTrue();
+
+        // 변경이 없을 때 다시 구성하면 stale이 해제됨
+        globalLeaderboardRepository.rebuild(MONTH, () -> Map.of(1L, 5, 2L, 3));
+        assertThat(globalLeaderboardRepository.isStale()).isFalse();
+        assertThat(globalLeaderboardRepository.findRank(2L).recordCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재구성 후에는 현재 월의 delta만 반영되고, 다른 서버의 변경은 stale로 표시됨")
+    void applyDelta_AfterRebuild_OnlyCurrentMonth() {
+        // Given
+        globalLeaderboardRepository.rebuild(MONTH, () -> Map.of(1L, 5));
+
+        // When
+        globalLeaderboardRepository.beginChange();
+        globalLeaderboardRepository.applyDelta(1L, MONTH, 1);
+        globalLeaderboardRepository.beginChange();
+        globalLeaderboardRepository.applyDelta(1L, MONTH.minusMonths(1), 1);
+        globalLeaderboardRepository.markStale();
+
+        // Then
+        assertThat(globalLeaderboardRepository.findRank(1L).recordCount()).isEqualTo(6);
+        assertThat(globalLeaderboardRepository.isStale()).isTrue();
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.studylog.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LeaderboardRepositoryTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 3);
+
+    private final LeaderboardRepository leaderboardRepository = new LeaderboardRepository(3);
+
+    @Test
+    @DisplayName("DB에 먼저 쓴 변경을 조회 결과가 이미 포함해도 적재된 보드에서 두 번 세지 않음")
+    void applyDelta_LoaderAlreadySawWrite_NotCountedTwice() {
+        // Given: user_monthly_stat에 +1을 쓰는 중
+        leaderboardRepository.beginChange(MONTH);
+
+        // When: 그 사이 조회한 결과(3 -> 4)에 이미 반영되어 있고, 조회가 끝난 뒤 delta가 도착
+        Map<Long, Integer> loaded = leaderboardRepository.getOrLoad(MONTH, () -> Map.of(1L, 4));
+        leaderboardRepository.applyDelta(1L, MONTH, 1);
+
+        // Then: 쓰는 중에 조회한 결과는 저장하지 않고, 다음 조회 때 다시 읽음
+        assertThat(loaded).containsExactly(Map.entry(1L, 4));
+        assertThat(leaderboardRepository.getOrLoad(MONTH, () -> Map.of(1L, 4))).containsExactly(Map.entry(1L, 4));
+    }
+
+    @Test
+    @DisplayName("조회 도중 변경이 끝나면 결과를 저장하지 않고, 변경이 없을 때 조회한 보드는 저장 후 증분 갱신")
+    void getOrLoad_ChangedDuringLoad_NotCached() {
+        // When: 조회 도중 다른 기록의 쓰기가 시작되고 끝남
+        Map<Long, Integer> first = leaderboardRepository.getOrLoad(MONTH, () -> {
+            leaderboardRepository.beginChange(MONTH);
+            leaderboardRepository.applyDelta(2L, MONTH, 1);
+            return Map.of(1L, 3);
+        });
+        Map<Long, Integer> board = leaderboardRepository.getOrLoad(MONTH, () -> Map.of(1L, 3, 2L, 1));
+        leaderboardRepository.beginChange(MONTH);
+        leaderboardRepository.applyDelta(2L, MONTH, 1);
+
+        // Then
+        assertThat(first).containsExactly(Map.entry(1L, 3));
+        assertThat(leaderboardRepository.getOrLoad(MONTH, Map::of)).isSameAs(board);
+        assertThat(board).containsEntry(1L, 3).containsEntry(2L, 2);
+    }
+
+    @Test
+    @DisplayName("쓰기가 실패해 취소되면 다음 조회 결과는 다시 저장됨")
+    void cancelChange_AfterFailedWrite_NextLoadCached() {
+        // Given
+        leaderboardRepository.beginChange(MONTH);
+        leaderboardRepository.cancelChange(MONTH);
+        assertThatThrownBy(() -> leaderboardRepository.getOrLoad(MONTH, () -> {
+            throw new IllegalStateException("조회 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // When
+        Map<Long, Integer> board = leaderboardRepository.getOrLoad(MONTH, () -> Map.of(1L, 5));
+
+        // Then
+        assertThat(leaderboardRepository.getOrLoad(MONTH, Map::of)).isSameAs(board);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 변경으로 전체 제거되면 제거 전에 시작한 조회 결과는 저장하지 않음")
+    void evictAll_DuringLoad_NotCached() {
+        // When
+        leaderboardRepository.getOrLoad(MONTH, () -> {
+            leaderboardRepository.evictAll();
+            return Map.of(1L, 3);
+        });
+
+        // Then
+        assertThat(leaderboardRepository.getOrLoad(MONTH, () -> Map.of(1L, 4))).containsExactly(Map.entry(1L, 4));
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.studylog.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.studylog.entity.UserMonthlyStat;
+import org.example.studylog.entity.user.Role;
+import org.example.studylog.entity.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class MonthlyRankingSnapshotRepositoryTest {
+
+    @Autowired
+    private MonthlyRankingSnapshotRepository snapshotRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("집계 행이 있는 지난 월 중 마감되지 않은 월만 오래된 순으로 조회됨")
+    void findUnclosedMonthsBefore_SkipsClosedAndLaterMonths() {
+        // Given: 1990년 1~3월과 12월에 집계 행, 3월은 마감됨
+        User user = createTestUser();
+        saveStat(user, 1990, 2);
+        saveStat(user, 1990, 1);
+        saveStat(user, 1990, 3);
+        saveStat(user, 1990, 12);
+        snapshotRepository.markClosed(1990, 3);
+
+        // When
+        List<Object[]> months = snapshotRepository.findUnclosedMonthsBefore(1990, 12);
+
+        // Then
+        assertThat(months).extracting(row -> ((Number) row[0]).intValue() * 100 + ((Number) row[1]).intValue())
+                .containsExactly(199001, 199002);
+    }
+
+    private void saveStat(User user, int year, int month) {
+        entityManager.persist(UserMonthlyStat.builder()
+                .user(user)
+                .year(year)
+                .month(month)
+                .recordCount(1)
+                .build());
+        entityManager.flush();
+    }
+
+    private User createTestUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .nickname("마감테스트")
+                .profileImage("test.jpg")
+                .intro("테스트 소개")
+                .level(1)
+                .recordCount(0L)
+                .role(Role.ROLE_USER)
+                .isProfileCompleted(true)
+                .uuid(UUID.randomUUID())
+                .code(suffix.substring(0, 5))
+                .oauthId("close_test_" + suffix)
+                .build());
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.studylog.repository;
+
+import org.example.studylog.entity.notification.Notification;
+import org.example.studylog.entity.notification.NotificationType;
+import org.example.studylog.entity.user.Role;
+import org.example.studylog.entity.user.User;
+import org.example.studylog.repository.custom.NotificationRepositoryCustom.NewNotification;
+import org.example.studylog.repository.custom.NotificationRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class NotificationRepositoryTest {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private NotificationRepositoryImpl notificationRepositoryImpl;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("재전송 대상에는 Last-Event-ID 이후 알림과, 더 작은 id 중 겹치는 구간 안에 저장된 알림이 포함됨")
+    void findReplay_IncludesLowerIdsInsideOverlap() {
+        // Given: old는 오래전에 저장, late는 last보다 작은 id지만 last와 비슷한 시점에 커밋, next는 이후 알림
+        User user = createTestUser();
+        Notification old = save(user, LocalDateTime.now().minusHours(1));
+        Notification late = save(user, LocalDateTime.now());
+        Notification last = save(user, LocalDateTime.now());
+        Notification next = save(user, LocalDateTime.now());
+
+        // When
+        List<Notification> replay = notificationRepository.findReplay(
+                user, last.getId(), last.getCreatedAt().minusSeconds(5), PageRequest.of(0, 100));
+
+        // Then
+        assertThat(replay).extracting(Notification::getId).containsExactly(late.getId(), next.getId());
+        assertThat(replay).extracting(Notification::getId).doesNotContain(old.getId(), last.getId());
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 알림을 한 번에 저장하면 입력 순서대로 id를 반환하고 안 읽은 알림 수가 늘어남")
+    void insertAll_ReturnsIdsInInputOrder() {
+        // Given
+        User first = createTestUser();
+        User second = createTestUser();
+        List<NewNotification> rows = List.of(
+                new NewNotification(second.getId(), NotificationType.ADD_FRIEND, "0"),
+                new NewNotification(first.getId(), NotificationType.ADD_FRIEND, "1"),
+                new NewNotification(second.getId(), NotificationType.ADD_FRIEND, "2"),
+                new NewNotification(first.getId(), NotificationType.ADD_FRIEND, "3"));
+
+        // When
+        List<Long> ids = notificationRepositoryImpl.insertAll(rows);
+
+        // Then: 반환된 id의 알림이 같은 위치의 입력과 일치
+        assertThat(ids).hasSize(rows.size()).doesNotHaveDuplicates();
+        for (int i = 0; i < ids.size(); i++) {
+            Notification saved = notificationRepository.findById(ids.get(i)).orElseThrow();
+            assertThat(saved.getUser().getId()).isEqualTo(rows.get(i).userId());
+            assertThat(saved.getContent()).isEqualTo(rows.get(i).content());
+        }
+        assertThat(notificationRepositoryImpl.countUnread(first.getId())).isEqualTo(2);
+        assertThat(notificationRepositoryImpl.countUnread(second.getId())).isEqualTo(2);
+    }
+
+    private Notification save(User user, LocalDateTime createdAt) {
+        Notification notification = notificationRepository.saveAndFlush(Notification.builder()
+                .user(user)
+                .type(NotificationType.ADD_FRIEND)
+                .content("재전송 테스트")
+                .build());
+        notification.setCreatedAt(createdAt);
+        return notificationRepository.saveAndFlush(notification);
+    }
+
+    private User createTestUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .nickname("재전송테스트")
+                .profileImage("test.jpg")
+                .intro("테스트 소개")
+                .level(1)
+                .recordCount(0L)
+                .role(Role.ROLE_USER)
+                .isProfileCompleted(true)
+                .uuid(UUID.randomUUID())
+                .code(suffix.substring(0, 5))
+                .oauthId("replay_test_" + suffix)
+                .build());
+    }
+}
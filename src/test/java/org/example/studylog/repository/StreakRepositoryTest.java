@@ -0,0 +1,172 @@
+package org.example.studylog.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.studylog.entity.Streak;
+import org.example.studylog.entity.user.Role;
+import org.example.studylog.entity.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기준일(TODAY)을 고정해 user_daily_stat 기준 스트릭 재계산/초기화 쿼리 확인
+@SpringBootTest
+@Transactional
+class StreakRepositoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2020, 6, 15);
+
+    @Autowired
+    private StreakRepository streakRepository;
+    @Autowired
+    private UserDailyStatRepository userDailyStatRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("기록이 없는 날로 끊긴 구간은 따로 계산되고, 현재 스트릭은 오늘 끝나는 구간의 길이")
+    void recomputeStreaks_Gap_SplitsRuns() {
+        // Given: 5~3일 전 (3일), 어제와 오늘 (2일)
+        User user = createTestUser();
+        record(user, TODAY.minusDays(5), TODAY.minusDays(4), TODAY.minusDays(3), TODAY.minusDays(1), TODAY);
+
+        // When
+        Streak streak = recompute(user);
+
+        // Then
+        assertThat(streak.getCurrentStreak()).isEqualTo(2);
+        assertThat(streak.getMaxStreak()).isEqualTo(3);
+        assertThat(streak.getLastRecordDate()).isEqualTo(TODAY);
+    }
+
+    @Test
+    @DisplayName("같은 날 기록이 여러 개여도 하루로 계산됨")
+    void recomputeStreaks_SameDayDuplicates_CountedOnce() {
+        // Given: 2일 전, 어제 두 번씩, 오늘 한 번
+        User user = createTestUser();
+        record(user, TODAY.minusDays(2), TODAY.minusDays(2), TODAY.minusDays(1), TODAY.minusDays(1), TODAY);
+
+        // When
+        Streak streak = recompute(user);
+
+        // Then
+        assertThat(streak.getCurrentStreak()).isEqualTo(3);
+        assertThat(streak.getMaxStreak()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("어제 끝난 구간은 현재 스트릭으로 유지되고, 그제 끝난 구간은 현재 스트릭이 0")
+    void recomputeStreaks_TodayYesterdayBoundary() {
+        // Given
+        User endsYesterday = createTestUser();
+        record(endsYesterday, TODAY.minusDays(3), TODAY.minusDays(2), TODAY.minusDays(1));
+        User endsTwoDaysAgo = createTestUser();
+        record(endsTwoDaysAgo, TODAY.minusDays(4), TODAY.minusDays(3), TODAY.minusDays(2));
+
+        // When
+        Streak kept = recompute(endsYesterday);
+        Streak broken = recompute(endsTwoDaysAgo);
+
+        // Then
+        assertThat(kept.getCurrentStreak()).isEqualTo(3);
+        assertThat(kept.getLastRecordDate()).isEqualTo(TODAY.minusDays(1));
+        assertThat(broken.getCurrentStreak()).isZero();
+        assertThat(broken.getMaxStreak()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("끊긴 스트릭 정리는 마지막 기록일이 그제 이전인 스트릭만 0으로 만들고 최대 스트릭은 유지")
+    void resetBrokenStreaks_OnlyBeforeYesterday() {
+        // Given: 재계산 후 하루가 지나 각각 어제/그제가 마지막 기록일이 됨
+        User endsYesterday = createTestUser();
+        record(endsYesterday, TODAY.minusDays(2), TODAY.minusDays(1));
+        User endsTwoDaysAgo = createTestUser();
+        record(endsTwoDaysAgo, TODAY.minusDays(3), TODAY.minusDays(2));
+        streakRepository.recomputeStreaks(endsYesterday.getId(), endsYesterday.getId(), TODAY.minusDays(1));
+        streakRepository.recomputeStreaks(endsTwoDaysAgo.getId(), endsTwoDaysAgo.getId(), TODAY.minusDays(1));
+
+        // When: batch 크기보다 많아도 모두 처리되도록 0이 될 때까지 반복
+        int reset;
+        do {
+            reset = streakRepository.resetBrokenStreaks(TODAY, 100);
+        } while (reset > 0);
+
+        // Then
+        Streak kept = find(endsYesterday);
+        Streak broken = find(endsTwoDaysAgo);
+        assertThat(kept.getCurrentStreak()).isEqualTo(2);
+        assertThat(broken.getCurrentStreak()).isZero();
+        assertThat(broken.getMaxStreak()).isEqualTo(2);
+        assertThat(broken.getLastRecordDate()).isEqualTo(TODAY.minusDays(2));
+    }
+
+    @Test
+    @DisplayName("기록 삭제 후 재계산하면 가운데 날이 빠진 구간이 나뉘고, 마지막 기록까지 지우면 스트릭이 초기화됨")
+    void recompute_AfterDelete() {
+        // Given
+        User user = createTestUser();
+        record(user, TODAY.minusDays(2), TODAY.minusDays(1), TODAY);
+        assertThat(recompute(user).getCurrentStreak()).isEqualTo(3);
+
+        // When: 어제 기록 삭제
+        userDailyStatRepository.decrement(user.getId(), TODAY.minusDays(1));
+        Streak split = recompute(user);
+
+        // Then
+        assertThat(split.getCurrentStreak()).isEqualTo(1);
+        assertThat(split.getMaxStreak()).isEqualTo(1);
+
+        // When: 남은 기록 모두 삭제
+        userDailyStatRepository.decrement(user.getId(), TODAY.minusDays(2));
+        userDailyStatRepository.decrement(user.getId(), TODAY);
+        Streak cleared = recompute(user);
+
+        // Then
+        assertThat(cleared.getCurrentStreak()).isZero();
+        assertThat(cleared.getMaxStreak()).isZero();
+        assertThat(cleared.getLastRecordDate()).isNull();
+    }
+
+    private void record(User user, LocalDate... dates) {
+        for (LocalDate date : dates) {
+            userDailyStatRepository.increment(user.getId(), date);
+        }
+    }
+
+    // StreakService.recomputeStreak과 같은 순서 (재계산 후 기록이 없는 사용자 초기화)
+    private Streak recompute(User user) {
+        streakRepository.recomputeStreaks(user.getId(), user.getId(), TODAY);
+        streakRepository.resetStreaksWithoutRecords(user.getId(), user.getId());
+        return find(user);
+    }
+
+    // native 쿼리로 바뀐 값을 읽도록 영속성 컨텍스트를 비우고 조회
+    private Streak find(User user) {
+        entityManager.clear();
+        return streakRepository.findByUser(user).orElseThrow();
+    }
+
+    private User createTestUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .nickname("스트릭테스트")
+                .profileImage("test.jpg")
+                .intro("테스트 소개")
+                .level(1)
+                .recordCount(0L)
+                .role(Role.ROLE_USER)
+                .isProfileCompleted(true)
+                .uuid(UUID.randomUUID())
+                .code(suffix.substring(0, 5))
+                .oauthId("streak_test_" + suffix)
+                .build());
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.studylog.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class YearlyHeatmapRepositoryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 2);
+
+    private final YearlyHeatmapRepository yearlyHeatmapRepository = new YearlyHeatmapRepository(100);
+
+    @Test
+    @DisplayName("DB에 먼저 쓴 변경을 조회 결과가 이미 포함해도 캐시에서 두 번 세지 않음")
+    void applyDelta_LoaderAlreadySawWrite_NotCountedTwice() {
+        // Given: user_daily_stat에 +1을 쓰는 중
+        yearlyHeatmapRepository.beginChange(1L, DATE);
+
+        // When: 그 사이 조회한 결과(2 -> 3)에 이미 반영되어 있고, 조회가 끝난 뒤 delta가 도착
+        short[] counts = yearlyHeatmapRepository.getOrLoad(1L, 2025, () -> countsOf(3));
+        yearlyHeatmapRepository.applyDelta(1L, DATE, 1);
+
+        // Then: 쓰는 중에 조회한 결과는 저장하지 않고, 다음 조회 때 다시 읽음
+        assertThat(counts[1]).isEqualTo((short) 3);
+        assertThat(yearlyHeatmapRepository.getOrLoad(1L, 2025, () -> countsOf(3))[1]).isEqualTo((short) 3);
+    }
+
+    @Test
+    @DisplayName("조회 도중 변경이 끝나면 저장하지 않고, 변경이 없을 때 조회한 결과는 저장 후 증분 갱신")
+    void getOrLoad_ChangedDuringLoad_NotCached() {
+        // When
+        yearlyHeatmapRepository.getOrLoad(1L, 2025, () -> {
+            yearlyHeatmapRepository.beginChange(1L, DATE);
+            yearlyHeatmapRepository.applyDelta(1L, DATE, 1);
+            return countsOf(2);
+        });
+        yearlyHeatmapRepository.getOrLoad(1L, 2025, () -> countsOf(3));
+        yearlyHeatmapRepository.beginChange(1L, DATE);
+        yearlyHeatmapRepository.applyDelta(1L, DATE, 1);
+
+        // Then
+        assertThat(yearlyHeatmapRepository.getOrLoad(1L, 2025, () -> countsOf(0))[1]).isEqualTo((short) 4);
+    }
+
+    @Test
+    @DisplayName("쓰기가 취소되면 다음 조회 결과는 다시 저장됨")
+    void cancelChange_NextLoadCached() {
+        // Given
+        yearlyHeatmapRepository.beginChange(1L, DATE);
+        yearlyHeatmapRepository.cancelChange(1L, DATE);
+
+        // When
+        yearlyHeatmapRepository.getOrLoad(1L, 2025, () -> countsOf(2));
+
+        // Then
+        assertThat(yearlyHeatmapRepository.getOrLoad(1L, 2025, () -> countsOf(0))[1]).isEqualTo((short) 2);
+    }
+
+    private static short[] countsOf(int secondDay) {
+        short[] counts = new short[365];
+        counts[1] = (short) secondDay;
+        return counts;
+    }
+}
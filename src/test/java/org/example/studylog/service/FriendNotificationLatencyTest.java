@@ -0,0 +1,139 @@
+package org.example.studylog.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.example.studylog.dto.friend.FriendRequestDTO;
+import org.example.studylog.entity.user.Role;
+import org.example.studylog.entity.user.User;
+import org.example.studylog.repository.EmitterRepository;
+import org.example.studylog.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 알림을 받는 쪽 SSE 연결이 막혀 있어도 친구 추가 요청이 느려지거나 DB 커넥션을 붙잡지 않는지 확인
+@SpringBootTest
+class FriendNotificationLatencyTest {
+
+    private static final int ROUNDS = 20;
+    private static final long MAX_CALL_MILLIS = 2_000;
+
+    @Autowired
+    private FriendService friendService;
+    @Autowired
+    private EmitterRepository emitterRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DataSource dataSource;
+
+    private final List<User> actors = new ArrayList<>();
+    private User target;
+    private BlockingEmitter emitter;
+
+    @BeforeEach
+    void setUp() {
+        // 보낸 사람마다 알림을 모으는 key가 다르므로 서로 합쳐지지 않음 (연결별 대기열 크기 50 이하)
+        for (int i = 0; i < ROUNDS; i++) {
+            actors.add(createTestUser("보낸사람" + i));
+        }
+        target = createTestUser("받는사람");
+        emitter = new BlockingEmitter();
+        emitterRepository.save(target.getOauthId(), target.getOauthId() + "_blocked", emitter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitter.release.countDown();
+        emitterRepository.delete(target.getOauthId(), target.getOauthId() + "_blocked");
+        // 친구 관계와 알림은 사용자 삭제 시 DB에서 함께 삭제됨
+        userRepository.deleteAll(actors);
+        userRepository.delete(target);
+    }
+
+    @Test
+    @DisplayName("상대의 SSE 연결이 전송 중 멈춰 있어도 친구 추가 지연과 사용 중인 DB 커넥션 수가 늘지 않음")
+    void addFriend_BlockedEmitter_LatencyAndConnectionsStayFlat() throws Exception {
+        // Given
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        FriendRequestDTO request = new FriendRequestDTO();
+        ReflectionTestUtils.setField(request, "code", target.getCode());
+        // 테스트 시작 시점에 이미 사용 중인 커넥션
+        int baseline = pool.getActiveConnections();
+
+        // When: 여러 사람이 차례로 같은 사용자를 친구 추가
+        List<Long> addMillis = new ArrayList<>();
+        for (User actor : actors) {
+            long start = System.nanoTime();
+            friendService.addFriend(request, actor.getOauthId());
+            addMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        // Then: 알림 전송은 실제로 막혀 있음 (모으는 창이 지난 뒤 전송 시작)
+        assertThat(emitter.entered.await(15, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.release.getCount()).isEqualTo(1);
+
+        // 매 요청이 막힌 전송을 기다리지 않고, 뒤쪽 요청이 앞쪽보다 눈에 띄게 느려지지 않음
+        assertThat(addMillis).allSatisfy(millis -> assertThat(millis).isLessThan(MAX_CALL_MILLIS));
+        double firstHalf = average(addMillis.subList(0, ROUNDS / 2));
+        double secondHalf = average(addMillis.subList(ROUNDS / 2, ROUNDS));
+        assertThat(secondHalf).isLessThanOrEqualTo(firstHalf * 3 + 50);
+
+        // 알림 저장이 끝나면 막힌 연결이 있어도 사용 중인 커넥션이 처음과 같음
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (pool.getActiveConnections() > baseline && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(pool.getActiveConnections()).isEqualTo(baseline);
+    }
+
+    private static double average(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).average().orElse(0);
+    }
+
+    private User createTestUser(String nickname) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .nickname(nickname)
+                .profileImage("test.jpg")
+                .intro("테스트 소개")
+                .level(1)
+                .recordCount(0L)
+                .role(Role.ROLE_USER)
+                .isProfileCompleted(true)
+                .uuid(UUID.randomUUID())
+                .code(suffix.substring(0, 5))
+                .oauthId("latency_test_" + suffix)
+                .build());
+    }
+
+    // 첫 전송부터 release 될 때까지 멈추는 SseEmitter (응답을 읽지 않는 느린 클라이언트)
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.studylog.service;
+
+import org.example.studylog.dto.friend.FriendSuggestionResponseDTO;
+import org.example.studylog.entity.user.User;
+import org.example.studylog.repository.FriendSuggestionRepository;
+import org.example.studylog.repository.UserRepository;
+import org.example.studylog.repository.UserSummaryRepository;
+import org.example.studylog.repository.UserSummaryRepository.UserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 고정된 작은 친구 그래프로 추천 계산 확인
+// 1의 친구: 2, 3, 4
+// 2의 친구: 1, 3, 5, 6, 7, 10 / 3의 친구: 1, 2, 5, 6, 8 / 4의 친구: 1, 5, 7, 9, 10
+// 함께 아는 친구 수: 5 -> 3, 6/7/10 -> 2, 8/9 -> 1 (1은 본인, 2와 3은 이미 친구)
+class FriendSuggestionServiceTest {
+
+    private static final long ME = 1L;
+    private static final int MAX_SUGGESTIONS = 3;
+
+    private final FriendGraphService friendGraphService = mock(FriendGraphService.class);
+    private final UserSummaryRepository userSummaryRepository = mock(UserSummaryRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final FriendSuggestionRepository friendSuggestionRepository = new FriendSuggestionRepository(100);
+    private final FriendSuggestionService friendSuggestionService = new FriendSuggestionService(
+            friendGraphService, friendSuggestionRepository, userSummaryRepository, userRepository, MAX_SUGGESTIONS);
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findByOauthId("me")).thenReturn(User.builder().id(ME).build());
+        when(friendGraphService.getFriendIds(ME)).thenReturn(new long[]{2, 3, 4});
+        when(friendGraphService.getFriendIds(2L)).thenReturn(new long[]{1, 3, 5, 6, 7, 10});
+        when(friendGraphService.getFriendIds(3L)).thenReturn(new long[]{1, 2, 5, 6, 8});
+        when(friendGraphService.getFriendIds(4L)).thenReturn(new long[]{1, 5, 7, 9, 10});
+        when(userSummaryRepository.findAllById(anyList()))
+                .thenAnswer(invocation -> summaries(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("함께 아는 친구 수 순으로 상위 max-size명만 추천하고, 수가 같으면 ID 오름차순이며 본인과 친구는 제외")
+    void getSuggestions_RanksByMutualCount() {
+        // When
+        List<FriendSuggestionResponseDTO> suggestions = friendSuggestionService.getSuggestions("me", 10);
+
+        // Then: 10도 2명이지만 힙 크기(3)를 넘어 제외, 8/9는 1명이라 제외
+        assertThat(suggestions).extracting(FriendSuggestionResponseDTO::getId).containsExactly(5L, 6L, 7L);
+        assertThat(suggestions).extracting(FriendSuggestionResponseDTO::getMutualCount).containsExactly(3, 2, 2);
+        assertThat(suggestions).extracting(FriendSuggestionResponseDTO::getId).doesNotContain(ME, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("요청한 개수만큼만 반환하고, 탈퇴해 사용자 정보가 없는 후보는 빠짐")
+    void getSuggestions_PageAndMissingSummary() {
+        // Given: 6번 사용자 탈퇴
+        when(userSummaryRepository.findAllById(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return summaries(ids.stream().filter(id -> id != 6L).toList());
+        });
+
+        // When
+        List<FriendSuggestionResponseDTO> suggestions = friendSuggestionService.getSuggestions("me", 2);
+
+        // Then
+        assertThat(suggestions).extracting(FriendSuggestionResponseDTO::getId).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("친구가 없으면 추천도 없음")
+    void getSuggestions_NoFriends_Empty() {
+        // Given
+        when(friendGraphService.getFriendIds(ME)).thenReturn(new long[0]);
+
+        // When & Then
+        assertThat(friendSuggestionService.getSuggestions("me", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("계산한 추천은 캐시되어 다음 요청에서 다시 계산하지 않음")
+    void getSuggestions_Cached() {
+        // When
+        friendSuggestionService.getSuggestions("me", 10);
+        List<FriendSuggestionResponseDTO> second = friendSuggestionService.getSuggestions("me", 10);
+
+        // Then
+        assertThat(second).extracting(FriendSuggestionResponseDTO::getId).containsExactly(5L, 6L, 7L);
+        verify(friendGraphService, times(1)).getFriendIds(4L);
+    }
+
+    @Test
+    @DisplayName("계산 중에 친구 관계가 바뀌면 결과를 캐시하지 않고 다음 요청에서 다시 계산")
+    void getSuggestions_InvalidatedDuringCompute_NotCached() {
+        // Given: 4의 친구 목록을 읽는 도중 다른 사용자의 친구 관계 변경으로 무효화됨
+        doAnswer(invocation -> {
+            friendSuggestionRepository.invalidate(99L);
+            return new long[]{1, 5, 7, 9, 10};
+        }).when(friendGraphService).getFriendIds(4L);
+
+        // When
+        friendSuggestionService.getSuggestions("me", 10);
+
+        // Then
+        assertThat(friendSuggestionRepository.get(ME)).isNull();
+
+        // When: 다음 요청은 무효화 없이 계산되어 캐시됨
+        doReturn(new long[]{1, 5, 7, 9, 10}).when(friendGraphService).getFriendIds(4L);
+        friendSuggestionService.getSuggestions("me", 10);
+
+        // Then
+        assertThat(friendSuggestionRepository.get(ME)).extracting(FriendSuggestionRepository.Suggestion::userId)
+                .containsExactly(5L, 6L, 7L);
+        verify(friendGraphService, times(2)).getFriendIds(ME);
+    }
+
+    @Test
+    @DisplayName("친구 관계가 바뀐 사용자와 그 친구들의 추천이 무효화됨")
+    void invalidateAround_EvictsUserAndNeighbors() {
+        // Given
+        friendSuggestionService.getSuggestions("me", 10);
+        assertThat(friendSuggestionRepository.get(ME)).isNotNull();
+
+        // When: 2의 친구 관계 변경 (1은 2의 친구)
+        friendSuggestionService.invalidateAround(List.of(2L));
+
+        // Then
+        assertThat(friendSuggestionRepository.get(ME)).isNull();
+    }
+
+    private static Map<Long, UserSummary> summaries(List<Long> ids) {
+        return ids.stream()
+                .map(id -> new UserSummary(id, "user" + id, "image.jpg", "c" + id))
+                .collect(Collectors.toMap(UserSummary::id, Function.identity()));
+    }
+}
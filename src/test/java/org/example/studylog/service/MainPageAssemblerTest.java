@@ -0,0 +1,76 @@
+package org.example.studylog.service;
+
+import org.example.studylog.dto.MainPageResponseDTO;
+import org.example.studylog.entity.user.User;
+import org.example.studylog.repository.CategoryRepository;
+import org.example.studylog.repository.StreakRepository;
+import org.example.studylog.repository.StudyRecordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MainPageAssemblerTest {
+
+    private final FriendGraphService friendGraphService = mock(FriendGraphService.class);
+    private final StudyRecordRepository studyRecordRepository = mock(StudyRecordRepository.class);
+    private final StreakRepository streakRepository = mock(StreakRepository.class);
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final StreakService streakService = mock(StreakService.class);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    // 스레드 1개, 대기열 1개, 섹션 타임아웃 300ms
+    private final MainPageAssembler assembler = new MainPageAssembler(friendGraphService, studyRecordRepository,
+            streakRepository, categoryRepository, streakService, mock(PlatformTransactionManager.class),
+            1, 1, 300, 20);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        assembler.shutdown();
+    }
+
+    @Test
+    @DisplayName("풀이 가득 차면 섹션을 요청 스레드에서 실행하지 않고 기본값으로 대체하며, 시간 초과된 섹션은 인터럽트됨")
+    void assemble_PoolSaturated_DegradesWithoutCallerRuns() throws Exception {
+        // Given: 첫 섹션(친구 목록)이 스레드를 계속 점유
+        when(friendGraphService.getFriendPage(anyLong(), isNull(), anyInt())).thenAnswer(invocation -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+        User user = User.builder().id(1L).nickname("테스트").build();
+
+        // When
+        long start = System.nanoTime();
+        MainPageResponseDTO response = assembler.assemble(user, null);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then: 시간 초과된 섹션과 거절된 섹션은 기본값, 응답은 타임아웃 안에 반환
+        // (대기열에 들어간 스트릭 섹션은 인터럽트로 스레드가 풀린 뒤 실행될 수 있음)
+        assertThat(response.getPartial()).isTrue();
+        assertThat(response.getDegradedSections()).contains("following", "maxStreak", "categories");
+        assertThat(elapsedMillis).isLessThan(2000);
+        verify(streakRepository, never()).findByUser(any());
+        verify(categoryRepository, never()).findByUserOrderByNameAsc(any());
+        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.studylog.service;
+
+import org.example.studylog.repository.MonthlyStatDeltaBuffer;
+import org.example.studylog.repository.custom.RankingRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MonthlyStatWriterTest {
+
+    @Test
+    @DisplayName("보드 적재 중에는 flush가 변경분을 꺼내지 않아, 적재 결과에 대기 중인 변경분이 빠지지 않음")
+    void loadMonthlyCounts_FlushDuringLoad_WaitsForLoad() throws Exception {
+        // Given
+        RankingRepositoryImpl rankingRepository = mock(RankingRepositoryImpl.class);
+        MonthlyStatDeltaBuffer deltaBuffer = new MonthlyStatDeltaBuffer(4);
+        MonthlyStatWriter writer =
+                new MonthlyStatWriter(rankingRepository, deltaBuffer, mock(CacheInvalidationService.class), true);
+        writer.increment(1L, 2025, 3);
+
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(rankingRepository.findMonthlyCounts(2025, 3)).thenAnswer(invocation -> {
+            reading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of(1L, 2);
+        });
+
+        // When: 테이블을 읽는 도중 flush 실행
+        CompletableFuture<Map<Long, Integer>> load =
+                CompletableFuture.supplyAsync(() -> writer.loadMonthlyCounts(2025, 3));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(writer::flush);
+
+        // Then: 적재가 끝날 때까지 flush는 대기하고, 적재 결과에는 버퍼의 변경분이 포함됨
+        verify(rankingRepository, after(200).never()).applyDeltas(anyMap());
+        release.countDown();
+        assertThat(load.get(5, TimeUnit.SECONDS)).containsEntry(1L, 3);
+        flush.get(5, TimeUnit.SECONDS);
+        verify(rankingRepository, timeout(5000)).applyDeltas(anyMap());
+    }
+}
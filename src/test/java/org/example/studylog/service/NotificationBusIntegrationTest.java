@@ -0,0 +1,233 @@
+package org.example.studylog.service;
+
+import org.example.studylog.StudyLogApplication;
+import org.example.studylog.dto.MainPageResponseDTO;
+import org.example.studylog.dto.notification.NotificationDTO;
+import org.example.studylog.dto.notification.NotificationResponseDTO;
+import org.example.studylog.entity.notification.NotificationType;
+import org.example.studylog.entity.user.Role;
+import org.example.studylog.entity.user.User;
+import org.example.studylog.repository.EmitterRepository;
+import org.example.studylog.repository.FriendGraphRepository;
+import org.example.studylog.repository.GlobalLeaderboardRepository;
+import org.example.studylog.repository.LeaderboardRepository;
+import org.example.studylog.repository.MainPageCacheRepository;
+import org.example.studylog.repository.ProfileVersionRepository;
+import org.example.studylog.repository.UserRepository;
+import org.example.studylog.repository.UserSummaryRepository;
+import org.example.studylog.service.notification.NotificationBus;
+import org.example.studylog.service.notification.NotificationMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 DB를 쓰는 서버 두 대를 띄워, A에서 보낸 알림이 B에 연결된 사용자에게 전달되는지 확인
+class NotificationBusIntegrationTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode();
+        nodeB = startNode();
+        user = createTestUser(nodeA.getBean(UserRepository.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (user != null) {
+            nodeA.getBean(UserRepository.class).delete(user);
+        }
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    @DisplayName("다른 서버에 SSE 연결이 있는 사용자에게도 알림이 전달됨")
+    void sendToClient_DeliveredOnOtherNode() throws Exception {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        nodeB.getBean(EmitterRepository.class).save(user.getOauthId(), user.getOauthId() + "_test", emitter);
+
+        // When
+        nodeA.getBean(NotificationService.class).sendToClient(user.getId(), user.getOauthId(),
+                new NotificationDTO(NotificationType.ADD_FRIEND, "버스테스트님이 친구로 추가했습니다."));
+
+        // Then
+        assertThat(emitter.latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.received).singleElement().satisfies(data -> {
+            assertThat(data).isInstanceOf(NotificationResponseDTO.class);
+            NotificationResponseDTO dto = (NotificationResponseDTO) data;
+            assertThat(dto.getType()).isEqualTo(NotificationType.ADD_FRIEND.getLabel());
+            assertThat(dto.getContent()).isEqualTo("버스테스트님이 친구로 추가했습니다.");
+        });
+    }
+
+    @Test
+    @DisplayName("트랜잭션 커밋 직후(afterCommit)에 발행한 알림도 다른 서버에 전달됨")
+    void publishInAfterCommit_DeliveredOnOtherNode() throws Exception {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        nodeB.getBean(EmitterRepository.class).save(user.getOauthId(), user.getOauthId() + "_test", emitter);
+        NotificationBus bus = nodeA.getBean(NotificationBus.class);
+
+        // When: 트랜잭션 안에서 afterCommit 훅으로 발행
+        new TransactionTemplate(nodeA.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            nodeA.getBean(UserRepository.class).findById(user.getId());
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bus.publish(new NotificationMessage(user.getOauthId(), 1L,
+                            NotificationType.ADD_FRIEND.getLabel(), "커밋 후 발행"));
+                }
+            });
+        });
+
+        // Then
+        assertThat(emitter.latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.received).singleElement()
+                .satisfies(data -> assertThat(((NotificationResponseDTO) data).getContent()).isEqualTo("커밋 후 발행"));
+    }
+
+    @Test
+    @DisplayName("한 서버에서 무효화한 메인 페이지 캐시와 공유 프로필 버전이 다른 서버에도 반영됨")
+    void evictMainPages_InvalidatedOnOtherNode() throws Exception {
+        // Given
+        MainPageCacheRepository cacheOnB = nodeB.getBean(MainPageCacheRepository.class);
+        cacheOnB.save(user.getId(), MainPageResponseDTO.builder().build(), cacheOnB.currentStamp(user.getId()));
+        assertThat(cacheOnB.get(user.getId())).isNotNull();
+        ProfileVersionRepository versionsOnB = nodeB.getBean(ProfileVersionRepository.class);
+        long versionBefore = versionsOnB.register(user.getCode(), user.getId()).version();
+
+        // When
+        nodeA.getBean(CacheInvalidationService.class).evictMainPages(List.of(user.getId()));
+
+        // Then
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (cacheOnB.get(user.getId()) != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(cacheOnB.get(user.getId())).isNull();
+        assertThat(versionsOnB.findByCode(user.getCode())).isEmpty();
+
+        // 두 서버가 DB의 같은 버전을 읽으므로 ETag가 일치함
+        ProfileVersionRepository versionsOnA = nodeA.getBean(ProfileVersionRepository.class);
+        ProfileVersionRepository.Stamp stampOnA = versionsOnA.register(user.getCode(), user.getId());
+        ProfileVersionRepository.Stamp stampOnB = versionsOnB.register(user.getCode(), user.getId());
+        assertThat(stampOnB.version()).isGreaterThan(versionBefore);
+        assertThat(stampOnB).isEqualTo(stampOnA);
+        assertThat(versionsOnB.toETag(stampOnB, "viewer")).isEqualTo(versionsOnA.toETag(stampOnA, "viewer"));
+    }
+
+    @Test
+    @DisplayName("친구 관계 변경과 프로필 변경이 다른 서버의 친구 목록/사용자 정보 캐시에 반영됨")
+    void friendAndProfileChanges_EvictedOnOtherNode() throws Exception {
+        // Given
+        FriendGraphRepository graphOnB = nodeB.getBean(FriendGraphRepository.class);
+        graphOnB.save(user.getId(), new long[]{user.getId() + 1}, graphOnB.currentStamp(user.getId()));
+        UserSummaryRepository summariesOnB = nodeB.getBean(UserSummaryRepository.class);
+        summariesOnB.findAllById(List.of(user.getId()));
+        user.setNickname("바뀐닉네임");
+        user = nodeA.getBean(UserRepository.class).save(user);
+
+        // When
+        CacheInvalidationService invalidationOnA = nodeA.getBean(CacheInvalidationService.class);
+        invalidationOnA.propagateFriendChange(user.getId(), user.getId() + 1);
+        invalidationOnA.evictUserSummary(user.getId());
+
+        // Then
+        long deadline = System.currentTimeMillis() + 10_000;
+        // 제거된 뒤 추천 무효화 과정에서 DB의 친구 목록(없음)으로 다시 채워짐
+        while (graphOnB.get(user.getId()) != null && graphOnB.get(user.getId()).length > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(nodeB.getBean(FriendGraphService.class).getFriendIds(user.getId())).isEmpty();
+        while (!"바뀐닉네임".equals(summariesOnB.findAllById(List.of(user.getId())).get(user.getId()).nickname())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(summariesOnB.findAllById(List.of(user.getId())).get(user.getId()).nickname()).isEqualTo("바뀐닉네임");
+    }
+
+    @Test
+    @DisplayName("한 서버에서 반영된 월별 기록 수 변경이 다른 서버의 랭킹 보드를 제거하고 전체 랭킹을 재구성 대상으로 표시함")
+    void leaderboardChange_EvictedOnOtherNode() throws Exception {
+        // Given
+        YearMonth month = YearMonth.now();
+        LeaderboardRepository boardsOnB = nodeB.getBean(LeaderboardRepository.class);
+        boardsOnB.getOrLoad(month, () -> Map.of(user.getId(), 1));
+
+        // When
+        nodeA.getBean(CacheInvalidationService.class).propagateLeaderboardChange(List.of(user.getId()));
+
+        // Then: 제거된 뒤에는 DB에서 다시 읽음
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (boardsOnB.getOrLoad(month, () -> Map.of(user.getId(), 2)).get(user.getId()) == 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(boardsOnB.getOrLoad(month, Map::of)).containsEntry(user.getId(), 2);
+        assertThat(nodeB.getBean(GlobalLeaderboardRepository.class).isStale()).isTrue();
+    }
+
+    private ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(StudyLogApplication.class)
+                .properties("server.port=0", "notification.bus.type=postgres",
+                        // LISTEN 연결 확인(SELECT 1)이 알림 대기와 함께 동작하는지 확인하도록 짧게 설정
+                        "notification.bus.health-check-interval-ms=100")
+                .run();
+    }
+
+    private User createTestUser(UserRepository userRepository) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = User.builder()
+                .nickname("버스테스트")
+                .profileImage("test.jpg")
+                .intro("테스트 소개")
+                .level(1)
+                .recordCount(0L)
+                .role(Role.ROLE_USER)
+                .isProfileCompleted(true)
+                .uuid(UUID.randomUUID())
+                .code(suffix.substring(0, 5))
+                .oauthId("bus_test_" + suffix)
+                .build();
+        return userRepository.save(user);
+    }
+
+    // 전송된 데이터를 기록하는 SseEmitter
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Object> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(NotificationResponseDTO.class::isInstance)
+                    .forEach(received::add);
+            latch.countDown();
+        }
+    }
+}
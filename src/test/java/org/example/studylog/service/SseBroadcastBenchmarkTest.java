@@ -0,0 +1,168 @@
+package org.example.studylog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.studylog.repository.EmitterRepository;
+import org.example.studylog.service.notification.BroadcastMessage;
+import org.example.studylog.service.notification.NotificationDispatcher;
+import org.example.studylog.service.notification.SseBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공지 전송 벤치마크 (DB 없이 mock emitter 10,000개로 측정)
+class SseBroadcastBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SseBroadcastBenchmarkTest.class);
+
+    private static final int EMITTER_COUNT = 10_000;
+    // 연결마다 직렬화하던 방식보다 훨씬 여유 있게 잡은 상한 (느린 CI에서도 통과하도록)
+    private static final long MAX_FAN_OUT_MILLIS = 10_000;
+    private static final int QUEUE_CAPACITY_PER_EMITTER = 50;
+
+    private EmitterRepository emitterRepository;
+    private NotificationDispatcher dispatcher;
+    private SseBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = new EmitterRepository(5);
+        dispatcher = new NotificationDispatcher(emitterRepository, 8, EMITTER_COUNT * 2,
+                QUEUE_CAPACITY_PER_EMITTER, new SimpleMeterRegistry());
+        broadcaster = new SseBroadcaster(dispatcher, new ObjectMapper().registerModule(new JavaTimeModule()), 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("공지 한 건은 한 번만 직렬화되어 10,000개 연결에 같은 바이트로 전송됨")
+    void broadcast_10kEmitters_SerializedOnce() throws Exception {
+        // Given
+        CountDownLatch latch = new CountDownLatch(EMITTER_COUNT);
+        List<RecordingEmitter> emitters = new ArrayList<>(EMITTER_COUNT);
+        for (int i = 0; i < EMITTER_COUNT; i++) {
+            RecordingEmitter emitter = new RecordingEmitter(latch);
+            emitters.add(emitter);
+            emitterRepository.save("user_" + i, "user_" + i + "_0", emitter);
+        }
+
+        // When
+        long start = System.nanoTime();
+        SseBroadcaster.Stats stats = broadcaster.fanOut(message("오늘 밤 2시부터 30분간 점검이 진행됩니다."));
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        // emitter.send가 끝난 뒤에 onSent가 집계되므로 모든 결과가 반영될 때까지 대기
+        awaitSettled(stats, EMITTER_COUNT);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("공지 전송: 연결 {}개, {}ms", EMITTER_COUNT, elapsedMillis);
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(MAX_FAN_OUT_MILLIS);
+        assertThat(stats.getTargeted()).isEqualTo(EMITTER_COUNT);
+        assertThat(stats.getSent()).isEqualTo(EMITTER_COUNT);
+        assertThat(stats.getDropped()).isZero();
+
+        // 모든 연결이 같은 byte[] 인스턴스를 받음 (연결마다 직렬화하지 않음)
+        Set<Object> payloads = Collections.newSetFromMap(new IdentityHashMap<>());
+        emitters.forEach(emitter -> payloads.add(emitter.lastData));
+        assertThat(payloads).hasSize(1);
+
+        String frame = new String((byte[]) payloads.iterator().next(), StandardCharsets.UTF_8);
+        assertThat(frame).startsWith("event:announcement\ndata:{").endsWith("}\n\n").doesNotContain("id:");
+    }
+
+    @Test
+    @DisplayName("느린 연결은 대기열을 넘는 공지만 버려지고 다른 연결은 모두 받음")
+    void broadcast_SlowEmitter_DropsOnlyItsOverflow() throws Exception {
+        // Given
+        int frames = QUEUE_CAPACITY_PER_EMITTER + 10;
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastLatch = new CountDownLatch(frames);
+        BlockingEmitter slow = new BlockingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(fastLatch);
+        emitterRepository.save("slow", "slow_0", slow);
+        emitterRepository.save("fast", "fast_0", fast);
+
+        // When
+        List<SseBroadcaster.Stats> results = new ArrayList<>();
+        for (int i = 0; i < frames; i++) {
+            results.add(broadcaster.fanOut(message("공지 " + i)));
+        }
+        assertThat(fastLatch.await(10, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        // Then (느린 연결: 전송 중 1개 + 대기열 50개를 넘는 나머지는 버려짐, 연결은 유지)
+        int dropped = results.stream().mapToInt(SseBroadcaster.Stats::getDropped).sum();
+        assertThat(dropped).isBetween(frames - QUEUE_CAPACITY_PER_EMITTER - 1, frames - QUEUE_CAPACITY_PER_EMITTER);
+        assertThat(fast.count).isEqualTo(frames);
+        assertThat(emitterRepository.hasEmitter("slow")).isTrue();
+    }
+
+    private static void awaitSettled(SseBroadcaster.Stats stats, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (stats.getSent() + stats.getDropped() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(stats.getSent() + stats.getDropped()).isEqualTo(expected);
+    }
+
+    private BroadcastMessage message(String content) {
+        return new BroadcastMessage(UUID.randomUUID().toString(), "announcement", content, LocalDateTime.now());
+    }
+
+    // 전송된 프레임을 기록하는 mock emitter
+    private static class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch latch;
+        private volatile Object lastData;
+        private volatile int count;
+
+        private RecordingEmitter(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            lastData = items.iterator().next().getData();
+            count++;
+            latch.countDown();
+        }
+    }
+
+    // release 전까지 전송이 끝나지 않는 느린 연결
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+
+        private BlockingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.studylog.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.studylog.entity.StudyRecord;
+import org.example.studylog.entity.category.Category;
+import org.example.studylog.entity.category.Color;
+import org.example.studylog.entity.user.Role;
+import org.example.studylog.entity.user.User;
+import org.example.studylog.repository.CategoryRepository;
+import org.example.studylog.repository.StudyRecordRepository;
+import org.example.studylog.repository.UserDailyStatRepository;
+import org.example.studylog.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class StreakServiceTest {
+
+    @Autowired
+    private StreakService streakService;
+    @Autowired
+    private MainService mainService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private StudyRecordRepository studyRecordRepository;
+    @Autowired
+    private UserDailyStatRepository userDailyStatRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("월별 스트릭 조회는 월의 일수와 관계없이 일정한 수의 쿼리만 실행")
+    void getMonthlyStreakData_ConstantQueryCount() {
+        // Given
+        User user = createTestUser();
+        Category category = createTestCategory(user);
+        createTestRecords(user, category, 3);
+        LocalDate today = LocalDate.now();
+
+        // When
+        long februaryQueries = countQueries(() -> streakService.getMonthlyStreakData(user, "2025", "2"));
+        long julyQueries = countQueries(() -> streakService.getMonthlyStreakData(user, "2025", "7"));
+        long currentMonthQueries = countQueries(() -> streakService.getMonthlyStreakData(
+                user, String.valueOf(today.getYear()), String.valueOf(today.getMonthValue())));
+
+        // Then
+        assertThat(februaryQueries).isEqualTo(julyQueries);
+        assertThat(currentMonthQueries).isEqualTo(julyQueries);
+        assertThat(currentMonthQueries).isLessThanOrEqualTo(1);
+
+        Map<String, Integer> data = streakService.getMonthlyStreakData(
+                user, String.valueOf(today.getYear()), String.valueOf(today.getMonthValue()));
+        assertThat(data).hasSize(today.lengthOfMonth());
+        assertThat(data.get(today.toString())).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("메인 페이지 조회는 월의 일수와 관계없이 일정한 수의 쿼리만 실행")
+    void getMainPageData_ConstantQueryCount() {
+        // Given
+        User user = createTestUser();
+        Category category = createTestCategory(user);
+        createTestRecords(user, category, 3);
+
+        // When
+        long queries = countQueries(() -> mainService.getMainPageData(user));
+
+        // Then (친구 목록, 일자별 기록 수, 최대 스트릭, 카테고리별 기록 수, 카테고리 목록)
+        assertThat(queries).isLessThanOrEqualTo(5);
+    }
+
+    private long countQueries(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 테스트 데이터 생성 헬퍼 메서드들
+    private User createTestUser() {
+        User user = User.builder()
+                .nickname("테스트유저")
+                .profileImage("test.jpg")
+                .intro("테스트 소개")
+                .level(1)
+                .recordCount(0L)
+                .role(Role.ROLE_USER)
+                .isProfileCompleted(true)
+                .uuid(UUID.randomUUID())
+                .code("TEST1")
+                .oauthId("test_oauth_id")
+                .build();
+        return userRepository.save(user);
+    }
+
+    private Category createTestCategory(User user) {
+        Category category = Category.builder()
+                .user(user)
+                .name("테스트 카테고리")
+                .color(Color.BABY_BLUE)
+                .build();
+        return categoryRepository.save(category);
+    }
+
+    private void createTestRecords(User user, Category category, int count) {
+        for (int i = 0; i < count; i++) {
+            studyRecordRepository.saveAndFlush(StudyRecord.builder()
+                    .user(user)
+                    .category(category)
+                    .title("테스트 기록 " + i)
+                    .content("테스트 기록 내용입니다. " + i)
+                    .build());
+            // 트랜잭션 커밋 후 이벤트로 반영되는 일자별 집계를 직접 반영
+            userDailyStatRepository.increment(user.getId(), LocalDate.now());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.studylog.service.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.studylog.dto.notification.NotificationDTO;
+import org.example.studylog.entity.notification.NotificationType;
+import org.example.studylog.service.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class NotificationCoalescerTest {
+
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final NotificationCoalescer coalescer =
+            new NotificationCoalescer(notificationService, 200, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("순서가 바뀌어 도착한 레벨 변화(1->2, 2->3)도 이어 붙여 마지막 알림 하나만 보냄")
+    void submit_OutOfOrderChain_EmitsLastNotification() {
+        // Given
+        NotificationDTO toLevel2 = new NotificationDTO(NotificationType.BADGE, "레벨 2");
+        NotificationDTO toLevel3 = new NotificationDTO(NotificationType.BADGE, "레벨 3");
+
+        // When: 2->3이 1->2보다 먼저 도착
+        coalescer.submit(1L, "user", "LEVEL", 2, 3, toLevel3);
+        coalescer.submit(1L, "user", "LEVEL", 1, 2, toLevel2);
+
+        // Then
+        verify(notificationService, timeout(2000)).sendToClient(1L, "user", toLevel3);
+        verify(notificationService, after(300).never()).sendToClient(1L, "user", toLevel2);
+    }
+
+    @Test
+    @DisplayName("순서가 바뀌어 도착한 UP/DOWN(2->1, 1->2)은 상쇄되어 보내지 않음")
+    void submit_OutOfOrderRoundTrip_Cancelled() {
+        // When
+        coalescer.submit(1L, "user", "LEVEL", 2, 1, new NotificationDTO(NotificationType.BADGE, "레벨 1"));
+        coalescer.submit(1L, "user", "LEVEL", 1, 2, new NotificationDTO(NotificationType.BADGE, "레벨 2"));
+
+        // Then
+        verify(notificationService, after(500).never()).sendToClient(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("이어지지 않는 변화가 오면 모으던 알림을 먼저 보내고 새로 모음")
+    void submit_UnrelatedTransition_EmitsPendingFirst() {
+        // Given
+        NotificationDTO toLevel2 = new NotificationDTO(NotificationType.BADGE, "레벨 2");
+        NotificationDTO toLevel5 = new NotificationDTO(NotificationType.BADGE, "레벨 5");
+
+        // When
+        coalescer.submit(1L, "user", "LEVEL", 1, 2, toLevel2);
+        coalescer.submit(1L, "user", "LEVEL", 4, 5, toLevel5);
+
+        // Then
+        verify(notificationService).sendToClient(1L, "user", toLevel2);
+        verify(notificationService, timeout(2000)).sendToClient(eq(1L), eq("user"), eq(toLevel5));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 받은 알림은 커밋 후 트랜잭션 동기화 밖에서 전송됨 (모으는 창이 없어도)")
+    void submit_InTransaction_SentOutsideAfterCommit() throws Exception {
+        // Given
+        NotificationCoalescer immediate = new NotificationCoalescer(notificationService, 0, new SimpleMeterRegistry());
+        NotificationDTO dto = new NotificationDTO(NotificationType.ADD_FRIEND, "친구 추가");
+        CompletableFuture<Boolean> syncActiveOnSend = new CompletableFuture<>();
+        doAnswer(invocation -> syncActiveOnSend.complete(TransactionSynchronizationManager.isSynchronizationActive()))
+                .when(notificationService).sendToClient(1L, "user", dto);
+
+        // When: 커밋 흉내 (afterCommit 호출)
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            immediate.submit(1L, "user", "FRIEND:2", 0, 1, dto);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: afterCommit 안에서 전송하면 sendToClient가 등록한 동기화가 실행되지 않아 알림이 사라짐
+        try {
+            assertThat(syncActiveOnSend.get(2, TimeUnit.SECONDS)).isFalse();
+        } finally {
+            immediate.shutdown();
+        }
+    }
+}
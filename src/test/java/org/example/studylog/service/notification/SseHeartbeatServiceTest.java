@@ -0,0 +1,125 @@
+package org.example.studylog.service.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.studylog.repository.EmitterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseHeartbeatServiceTest {
+
+    private static final int QUEUE_CAPACITY_PER_EMITTER = 5;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmitterRepository emitterRepository = new EmitterRepository(5);
+    private final NotificationDispatcher dispatcher =
+            new NotificationDispatcher(emitterRepository, 2, 100, QUEUE_CAPACITY_PER_EMITTER, meterRegistry);
+    // 모든 연결이 한 칸에 들어가도록 wheel 크기 1
+    private final SseHeartbeatService heartbeatService =
+            new SseHeartbeatService(emitterRepository, dispatcher, 1, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("막힌 연결은 자기 대기열을 넘는 ping만 버려지고, 같은 칸의 다른 연결은 매 tick마다 ping을 받음")
+    void tick_BlockedEmitter_OnlyItsPingsDropped() throws Exception {
+        // Given
+        int ticks = QUEUE_CAPACITY_PER_EMITTER + 10;
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEmitter slow = new BlockingEmitter(release);
+        CountingEmitter fast = new CountingEmitter();
+        connect("slow", slow);
+        connect("fast", fast);
+
+        // When: 빠른 연결이 ping을 받을 때마다 다음 tick 진행
+        for (int i = 1; i <= ticks; i++) {
+            heartbeatService.tick();
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (fast.received.get() < i && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+
+        // Then (느린 연결: 전송 중 1개 + 대기열 5개를 넘는 나머지는 버려짐, 연결은 유지)
+        assertThat(fast.received).hasValue(ticks);
+        assertThat(meterRegistry.counter("notification.dispatch.dropped").count())
+                .isEqualTo(ticks - QUEUE_CAPACITY_PER_EMITTER - 1);
+        assertThat(emitterRepository.hasEmitter("slow")).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("ping 전송이 실패한 연결은 정리되고 다음 tick부터 ping을 보내지 않음")
+    void tick_BrokenEmitter_Reaped() throws Exception {
+        // Given
+        FailingEmitter broken = new FailingEmitter();
+        connect("broken", broken);
+
+        // When
+        heartbeatService.tick();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (emitterRepository.hasEmitter("broken") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        heartbeatService.tick();
+        Thread.sleep(200);
+
+        // Then
+        assertThat(emitterRepository.hasEmitter("broken")).isFalse();
+        assertThat(meterRegistry.counter("notification.emitters.reaped").count()).isEqualTo(1.0);
+        assertThat(broken.attempts).hasValue(1);
+    }
+
+    private void connect(String oauthId, SseEmitter emitter) {
+        emitterRepository.save(oauthId, oauthId + "_0", emitter);
+        heartbeatService.register(oauthId, oauthId + "_0", emitter);
+    }
+
+    private static class CountingEmitter extends SseEmitter {
+        private final AtomicInteger received = new AtomicInteger();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            received.incrementAndGet();
+        }
+    }
+
+    // release 될 때까지 전송이 멈추는 연결 (응답을 읽지 않는 클라이언트)
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+
+        private BlockingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class FailingEmitter extends SseEmitter {
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            attempts.incrementAndGet();
+            throw new IOException("Broken pipe");
+        }
+    }
+}